@@ -0,0 +1,64 @@
+package ru.practicum.shareit.booking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
+import ru.practicum.shareit.client.AsyncBaseClient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static ru.practicum.shareit.booking.BookingClient.getListParameters;
+import static ru.practicum.shareit.booking.BookingClient.withCursor;
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
+
+@Service
+@Profile(ASYNC_PROFILE)
+public class AsyncBookingClient extends AsyncBaseClient {
+
+    private static final String API_PREFIX = "/bookings";
+
+    public AsyncBookingClient(@Value("${shareit-server.url}") String serverUrl, CloseableHttpAsyncClient httpClient,
+                              ObjectMapper objectMapper,
+                              @Value("${shareit-server.passthrough:true}") boolean passthrough) {
+        super(serverUrl + API_PREFIX, httpClient, objectMapper, passthrough);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> add(BookingDto bookingDto, Long userId) {
+        return post("", userId, bookingDto);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> addAll(List<BookingDto> bookingDtos, Long userId) {
+        return post("/batch", userId, bookingDtos);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> updateStatus(Long bookingId, Long userId, boolean approved) {
+        return patch("/" + bookingId + "?approved=" + approved, userId, null);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> updateStatuses(List<BookingStatusUpdateDto> updates, Long userId) {
+        return patch("/status", userId, updates);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getById(Long userId, Long bookingId) {
+        return get("/" + bookingId, userId);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getAllByBookerId(Long userId, String state, int from, int size,
+                                                                      String cursor) {
+        return get(withCursor("?state={state}&from={from}&size={size}", cursor),
+                userId, getListParameters(state, from, size, cursor));
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getAllByOwnerId(Long userId, String state, int from, int size,
+                                                                     String cursor) {
+        return get(withCursor("/owner" + "?state={state}&from={from}&size={size}", cursor),
+                userId, getListParameters(state, from, size, cursor));
+    }
+
+}
@@ -0,0 +1,101 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
+import ru.practicum.shareit.common.ValidationGroups;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
+import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
+
+/**
+ * Non-blocking variant of {@link BookingController} for the {@code async} profile
+ */
+@Slf4j
+@Controller
+@Profile(ASYNC_PROFILE)
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Validated
+public class AsyncBookingController {
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final int MAX_STATUS_UPDATES = 1000;
+
+    private final AsyncBookingClient bookingClient;
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<Object>> add(@RequestBody @Validated({ValidationGroups.Create.class, Default.class}) BookingDto bookingDto,
+                                                         @RequestHeader(X_SHARER_USER_ID) Long userId) {
+        log.info("Добавление нового бронирования {}", bookingDto);
+        return bookingClient.add(bookingDto, userId);
+    }
+
+    @PostMapping("/batch")
+    @Validated({ValidationGroups.Create.class, Default.class})
+    public CompletableFuture<ResponseEntity<Object>> addAll(@RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid BookingDto> bookingDtos,
+                                                            @RequestHeader(X_SHARER_USER_ID) Long userId) {
+        log.info("Добавление бронирований: {}", bookingDtos.size());
+        return bookingClient.addAll(bookingDtos, userId);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public CompletableFuture<ResponseEntity<Object>> updateStatus(@RequestHeader(X_SHARER_USER_ID) Long userId,
+                                                                  @PathVariable Long bookingId,
+                                                                  @RequestParam boolean approved) {
+        log.info("Обновление бронирования с ID {}", bookingId);
+        return bookingClient.updateStatus(bookingId, userId, approved);
+    }
+
+    @PatchMapping("/status")
+    public CompletableFuture<ResponseEntity<Object>> updateStatuses(@RequestHeader(X_SHARER_USER_ID) Long userId,
+                                                                    @RequestBody @NotEmpty @Size(max = MAX_STATUS_UPDATES)
+                                                                    List<@Valid BookingStatusUpdateDto> updates) {
+        log.info("Обновление статусов бронирований: {}", updates.size());
+        return bookingClient.updateStatuses(updates, userId);
+    }
+
+    @GetMapping("/{bookingId}")
+    public CompletableFuture<ResponseEntity<Object>> getById(@RequestHeader(X_SHARER_USER_ID) Long userId,
+                                                             @PathVariable Long bookingId) {
+        log.info("Получить бронирование по ID - {}", bookingId);
+        return bookingClient.getById(userId, bookingId);
+    }
+
+    @GetMapping()
+    public CompletableFuture<ResponseEntity<Object>> getAll(@RequestHeader(X_SHARER_USER_ID) Long userId,
+                                                            @RequestParam(defaultValue = "ALL") String state,
+                                                            @PositiveOrZero @RequestParam(defaultValue = "0") int from,
+                                                            @Positive @RequestParam(defaultValue = "10") int size,
+                                                            @RequestParam(required = false) String cursor) {
+        log.info("Получить все бронирования");
+        return bookingClient.getAllByBookerId(userId, state, from, size, cursor);
+    }
+
+    @GetMapping("/owner")
+    public CompletableFuture<ResponseEntity<Object>> getAllByOwnerId(@RequestHeader(X_SHARER_USER_ID) Long userId,
+                                                                     @RequestParam(defaultValue = "ALL") String state,
+                                                                     @PositiveOrZero @RequestParam(defaultValue = "0") int from,
+                                                                     @Positive @RequestParam(defaultValue = "10") int size,
+                                                                     @RequestParam(required = false) String cursor) {
+        log.info("Получить все бронирования пользователя");
+        return bookingClient.getAllByOwnerId(userId, state, from, size, cursor);
+    }
+
+}
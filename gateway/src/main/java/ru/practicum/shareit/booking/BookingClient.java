@@ -1,61 +1,90 @@
 package ru.practicum.shareit.booking;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
 
 @Service
+@Profile("!" + ASYNC_PROFILE)
 public class BookingClient extends BaseClient {
 
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory,
+                         @Value("${shareit-server.passthrough:true}") boolean passthrough,
+                         ResponseCache responseCache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                passthrough,
+                responseCache
         );
     }
 
     public ResponseEntity<Object> add(BookingDto bookingDto, Long userId) {
-        return post("", userId, bookingDto);
+        return evicting(post("", userId, bookingDto), cache -> cache.evict(ResponseCache.item(bookingDto.getItemId())));
+    }
+
+    public ResponseEntity<Object> addAll(List<BookingDto> bookingDtos, Long userId) {
+        return evicting(post("/batch", userId, bookingDtos),
+                cache -> bookingDtos.forEach(bookingDto -> cache.evict(ResponseCache.item(bookingDto.getItemId()))));
     }
 
     public ResponseEntity<Object> updateStatus(Long bookingId, Long userId, boolean approved) {
-        return patch("/" + bookingId + "?approved=" + approved, userId, null);
+        return evicting(patch("/" + bookingId + "?approved=" + approved, userId, null), ResponseCache::evictItems);
+    }
+
+    public ResponseEntity<Object> updateStatuses(List<BookingStatusUpdateDto> updates, Long userId) {
+        return evicting(patch("/status", userId, updates), ResponseCache::evictItems);
     }
 
     public ResponseEntity<Object> getById(Long userId, Long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getAllByBookerId(Long userId, String state, int from, int size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state,
-                "from", from,
-                "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getAllByBookerId(Long userId, String state, int from, int size, String cursor) {
+        return get(withCursor("?state={state}&from={from}&size={size}", cursor),
+                userId, getListParameters(state, from, size, cursor));
     }
 
-    public ResponseEntity<Object> getAllByOwnerId(Long userId, String state, int from, int size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state,
-                "from", from,
-                "size", size
-        );
-        return get("/owner" + "?state={state}&from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getAllByOwnerId(Long userId, String state, int from, int size, String cursor) {
+        return get(withCursor("/owner" + "?state={state}&from={from}&size={size}", cursor),
+                userId, getListParameters(state, from, size, cursor));
+    }
+
+    static String withCursor(String path, String cursor) {
+        return cursor != null ? path + "&cursor={cursor}" : path;
+    }
+
+    static Map<String, Object> getListParameters(String state, int from, int size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+        }
+        return parameters;
     }
 
 }
@@ -1,9 +1,12 @@
 package ru.practicum.shareit.booking;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import jakarta.validation.groups.Default;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
@@ -12,17 +15,26 @@ import org.springframework.web.bind.annotation.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.common.ValidationGroups;
 
+import java.util.List;
+
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
 import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
 
 @Slf4j
 @Controller
+@Profile("!" + ASYNC_PROFILE)
 @RequestMapping(path = "/bookings")
 @RequiredArgsConstructor
 @Validated
 public class BookingController {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final int MAX_STATUS_UPDATES = 1000;
+
     private final BookingClient bookingClient;
 
     @PostMapping
@@ -32,6 +44,14 @@ public class BookingController {
         return bookingClient.add(bookingDto, userId);
     }
 
+    @PostMapping("/batch")
+    @Validated({ValidationGroups.Create.class, Default.class})
+    public ResponseEntity<Object> addAll(@RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid BookingDto> bookingDtos,
+                                         @RequestHeader(X_SHARER_USER_ID) Long userId) {
+        log.info("Добавление бронирований: {}", bookingDtos.size());
+        return bookingClient.addAll(bookingDtos, userId);
+    }
+
     @PatchMapping("/{bookingId}")
     public ResponseEntity<Object> updateStatus(@RequestHeader(X_SHARER_USER_ID) Long userId,
                                                @PathVariable Long bookingId,
@@ -40,6 +60,14 @@ public class BookingController {
         return bookingClient.updateStatus(bookingId, userId, approved);
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<Object> updateStatuses(@RequestHeader(X_SHARER_USER_ID) Long userId,
+                                                 @RequestBody @NotEmpty @Size(max = MAX_STATUS_UPDATES)
+                                                 List<@Valid BookingStatusUpdateDto> updates) {
+        log.info("Обновление статусов бронирований: {}", updates.size());
+        return bookingClient.updateStatuses(updates, userId);
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getById(@RequestHeader(X_SHARER_USER_ID) Long userId,
                                           @PathVariable Long bookingId) {
@@ -51,18 +79,20 @@ public class BookingController {
     public ResponseEntity<Object> getAll(@RequestHeader(X_SHARER_USER_ID) Long userId,
                                          @RequestParam(defaultValue = "ALL") String state,
                                          @PositiveOrZero @RequestParam(defaultValue = "0") int from,
-                                         @Positive @RequestParam(defaultValue = "10") int size) {
+                                         @Positive @RequestParam(defaultValue = "10") int size,
+                                         @RequestParam(required = false) String cursor) {
         log.info("Получить все бронирования");
-        return bookingClient.getAllByBookerId(userId, state, from, size);
+        return bookingClient.getAllByBookerId(userId, state, from, size, cursor);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getAllByOwnerId(@RequestHeader(X_SHARER_USER_ID) Long userId,
                                                   @RequestParam(defaultValue = "ALL") String state,
                                                   @PositiveOrZero @RequestParam(defaultValue = "0") int from,
-                                                  @Positive @RequestParam(defaultValue = "10") int size) {
+                                                  @Positive @RequestParam(defaultValue = "10") int size,
+                                                  @RequestParam(required = false) String cursor) {
         log.info("Получить все бронирования пользователя");
-        return bookingClient.getAllByOwnerId(userId, state, from, size);
+        return bookingClient.getAllByOwnerId(userId, state, from, size, cursor);
     }
 
 }
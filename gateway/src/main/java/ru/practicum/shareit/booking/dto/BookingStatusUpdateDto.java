@@ -0,0 +1,24 @@
+package ru.practicum.shareit.booking.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+import java.io.Serializable;
+
+/**
+ * DTO for an owner's decision on one booking in a bulk status update
+ */
+@Data
+@Builder
+@Jacksonized
+public class BookingStatusUpdateDto implements Serializable {
+
+    @NotNull(message = "Бронирование является обязательным полем")
+    private Long bookingId;
+
+    @NotNull(message = "Решение по бронированию является обязательным полем")
+    private Boolean approved;
+
+}
@@ -0,0 +1,158 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
+
+/**
+ * Non-blocking counterpart of {@link BaseClient}: requests go through the pooled async HTTP client,
+ * the returned future completes on its I/O thread, so no servlet thread waits for the server.
+ * Honours the passthrough mode like {@link BaseClient}: with it responses are returned as raw bytes
+ * with the upstream status and headers, without it the JSON body of a successful response is parsed
+ * and serialized again, and an error body is returned as is with the upstream status only.
+ */
+public class AsyncBaseClient {
+
+    private final CloseableHttpAsyncClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final DefaultUriBuilderFactory uriBuilderFactory;
+
+    private final boolean passthrough;
+
+    public AsyncBaseClient(String baseUrl, CloseableHttpAsyncClient httpClient, ObjectMapper objectMapper,
+                           boolean passthrough) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.passthrough = passthrough;
+        this.uriBuilderFactory = new DefaultUriBuilderFactory(baseUrl);
+    }
+
+    protected CompletableFuture<ResponseEntity<Object>> get(String path) {
+        return get(path, null, null);
+    }
+
+    protected CompletableFuture<ResponseEntity<Object>> get(String path, long userId) {
+        return get(path, userId, null);
+    }
+
+    protected CompletableFuture<ResponseEntity<Object>> get(String path, Long userId,
+                                                            @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected <T> CompletableFuture<ResponseEntity<Object>> post(String path, T body) {
+        return post(path, null, body);
+    }
+
+    protected <T> CompletableFuture<ResponseEntity<Object>> post(String path, Long userId, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, null, body);
+    }
+
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, T body) {
+        return patch(path, null, body);
+    }
+
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, Long userId, T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, null, body);
+    }
+
+    protected CompletableFuture<ResponseEntity<Object>> delete(String path) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, null, null, null);
+    }
+
+    private <T> CompletableFuture<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path, Long userId,
+                                                                            @Nullable Map<String, Object> parameters,
+                                                                            @Nullable T body) {
+        URI uri = parameters != null ? uriBuilderFactory.expand(path, parameters) : uriBuilderFactory.expand(path);
+
+        SimpleRequestBuilder requestBuilder = SimpleRequestBuilder.create(method.name())
+                .setUri(uri)
+                .addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        if (userId != null) {
+            requestBuilder.addHeader(X_SHARER_USER_ID, String.valueOf(userId));
+        }
+        if (body != null) {
+            requestBuilder.setBody(toJson(body), ContentType.APPLICATION_JSON);
+        }
+
+        CompletableFuture<ResponseEntity<Object>> response = new CompletableFuture<>();
+        httpClient.execute(requestBuilder.build(), new FutureCallback<>() {
+
+            @Override
+            public void completed(SimpleHttpResponse shareitServerResponse) {
+                try {
+                    response.complete(prepareGatewayResponse(shareitServerResponse));
+                } catch (RuntimeException e) {
+                    response.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                response.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                response.cancel(false);
+            }
+
+        });
+        return response;
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Не удалось сериализовать тело запроса", e);
+        }
+    }
+
+    private ResponseEntity<Object> prepareGatewayResponse(SimpleHttpResponse response) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getCode());
+        byte[] body = response.getBodyBytes();
+
+        if (passthrough) {
+            HttpHeaders upstreamHeaders = new HttpHeaders();
+            for (Header header : response.getHeaders()) {
+                upstreamHeaders.add(header.getName(), header.getValue());
+            }
+            responseBuilder.headers(BaseClient.passthroughHeaders(upstreamHeaders));
+        } else if (body != null && body.length > 0 && HttpStatusCode.valueOf(response.getCode()).is2xxSuccessful()) {
+            return responseBuilder.body(fromJson(body));
+        }
+
+        return body != null ? responseBuilder.body(body) : responseBuilder.build();
+    }
+
+    private Object fromJson(byte[] body) {
+        try {
+            return objectMapper.readValue(body, Object.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Не удалось разобрать ответ сервера", e);
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
+
+/**
+ * Pooled non-blocking HTTP client of the {@code async} gateway stack, the counterpart of
+ * {@link ServerHttpClientConfig}. Uses the same pool and timeout properties and publishes the same gauges.
+ */
+@Configuration
+@Profile(ASYNC_PROFILE)
+@EnableConfigurationProperties(ServerHttpClientProperties.class)
+public class AsyncServerHttpClientConfig {
+
+    private static final String POOL_NAME = "shareit-server";
+
+    @Bean
+    public PoolingAsyncClientConnectionManager serverAsyncConnectionManager(ServerHttpClientProperties properties) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.responseTimeout()))
+                .build();
+
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxTotal())
+                .setMaxConnPerRoute(properties.maxPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpAsyncClient serverAsyncHttpClient(PoolingAsyncClientConnectionManager serverAsyncConnectionManager,
+                                                          ServerHttpClientProperties properties) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.connectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.responseTimeout()))
+                .setConnectionKeepAlive(TimeValue.of(properties.keepAlive()))
+                .build();
+
+        CloseableHttpAsyncClient httpClient = HttpAsyncClients.custom()
+                .setConnectionManager(serverAsyncConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.idleEviction()))
+                .build();
+        httpClient.start();
+        return httpClient;
+    }
+
+    @Bean
+    public MeterBinder serverAsyncConnectionPoolMetrics(PoolingAsyncClientConnectionManager serverAsyncConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(serverAsyncConnectionManager, POOL_NAME);
+    }
+
+}
@@ -2,6 +2,8 @@ package ru.practicum.shareit.client;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -16,10 +18,34 @@ import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
 
 public class BaseClient {
 
+    /**
+     * Connection-level headers of the upstream exchange, the servlet container sets its own
+     */
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            HttpHeaders.CONNECTION, "Keep-Alive", HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.TE, HttpHeaders.TRAILER, HttpHeaders.UPGRADE,
+            HttpHeaders.PROXY_AUTHENTICATE, HttpHeaders.PROXY_AUTHORIZATION
+    );
+
     protected final RestTemplate rest;
 
+    /**
+     * Passthrough mode: server responses are read as raw bytes and returned with the upstream status
+     * and headers, without parsing the JSON into maps and serializing it again
+     */
+    private final boolean passthrough;
+
+    @Nullable
+    private final ResponseCache responseCache;
+
     public BaseClient(RestTemplate rest) {
+        this(rest, false, null);
+    }
+
+    public BaseClient(RestTemplate rest, boolean passthrough, @Nullable ResponseCache responseCache) {
         this.rest = rest;
+        this.passthrough = passthrough;
+        this.responseCache = responseCache;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -34,6 +60,30 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
+    /**
+     * GET through the response cache
+     *
+     * @param resource resource the response shows, see {@link ResponseCache}
+     * @param userId   user the response depends on, null when it is the same for everyone
+     */
+    protected ResponseEntity<Object> cachedGet(String resource, String path, @Nullable Long userId,
+                                               @Nullable Map<String, Object> parameters) {
+        if (responseCache == null) {
+            return get(path, userId, parameters);
+        }
+        return responseCache.get(resource, path, userId, parameters, () -> get(path, userId, parameters));
+    }
+
+    /**
+     * Evicts cached responses after a mutating call has been proxied successfully
+     */
+    protected ResponseEntity<Object> evicting(ResponseEntity<Object> response, Consumer<ResponseCache> eviction) {
+        if (responseCache != null && response.getStatusCode().is2xxSuccessful()) {
+            eviction.accept(responseCache);
+        }
+        return response;
+    }
+
     protected <T> ResponseEntity<Object> post(String path, T body) {
         return post(path, null, null, body);
     }
@@ -85,19 +135,43 @@ public class BaseClient {
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
-        ResponseEntity<Object> shareitServerResponse;
+        Class<?> responseType = passthrough ? byte[].class : Object.class;
+
+        ResponseEntity<?> shareitServerResponse;
         try {
             if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, responseType, parameters);
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, responseType);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(e.getStatusCode());
+            if (passthrough) {
+                responseBuilder.headers(passthroughHeaders(e.getResponseHeaders()));
+            }
+            return responseBuilder.body(e.getResponseBodyAsByteArray());
+        }
+
+        if (passthrough) {
+            return ResponseEntity.status(shareitServerResponse.getStatusCode())
+                    .headers(passthroughHeaders(shareitServerResponse.getHeaders()))
+                    .body(shareitServerResponse.getBody());
         }
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    static HttpHeaders passthroughHeaders(@Nullable HttpHeaders upstreamHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        if (upstreamHeaders != null) {
+            upstreamHeaders.forEach((name, values) -> {
+                if (HOP_BY_HOP_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                    headers.addAll(name, values);
+                }
+            });
+        }
+        return headers;
+    }
+
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -108,9 +182,10 @@ public class BaseClient {
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
+    @SuppressWarnings("unchecked")
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<?> response) {
         if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
+            return (ResponseEntity<Object>) response;
         }
 
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
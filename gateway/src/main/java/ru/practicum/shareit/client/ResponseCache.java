@@ -0,0 +1,262 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-memory cache of successful GET responses of the server with a short TTL.
+ * Every entry is tagged with the resource it shows, a mutating call proxied for the resource evicts its entries.
+ * Evicting a resource bumps its version: its stripe of versions, the version of all items or requests,
+ * or the global one. A response loaded while the version of its resource changed is returned but not stored.
+ * Only raw bodies of the passthrough mode are cached, least recently used entries go first
+ * when the entry count or the total body size exceeds its limit.
+ * Only the blocking clients go through the cache, the clients of the {@code async} profile always call the server.
+ * Hit, miss, put and eviction counts and the size in bytes are published as {@code cache.*} metrics
+ * with tag {@code cache=gatewayResponses}.
+ */
+@Component
+public class ResponseCache {
+
+    public static final String ITEM_SEARCH = "itemSearch";
+
+    private static final String ITEM_PREFIX = "item/";
+
+    private static final String REQUEST_PREFIX = "request/";
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final long ttlNanos;
+
+    private final int maxEntries;
+
+    private final long maxBytes;
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final long[] versions = new long[VERSION_STRIPES];
+
+    private long generation;
+    private long itemsGeneration;
+    private long requestsGeneration;
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long evictions;
+
+    public ResponseCache(@Value("${shareit-server.response-cache.ttl:1s}") Duration ttl,
+                         @Value("${shareit-server.response-cache.max-entries:10000}") int maxEntries,
+                         @Value("${shareit-server.response-cache.max-size:64MB}") DataSize maxSize,
+                         MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxSize.toBytes();
+
+        new Metrics(this, "gatewayResponses").bindTo(meterRegistry);
+    }
+
+    public static String item(Long itemId) {
+        return ITEM_PREFIX + itemId;
+    }
+
+    public static String request(Long requestId) {
+        return REQUEST_PREFIX + requestId;
+    }
+
+    /**
+     * Returns the cached response of the GET or loads it
+     *
+     * @param resource   resource the response shows, mutations of it evict the response
+     * @param userId     user the response is shown to, null when it doesn't depend on the user
+     * @param parameters URI template parameters of the path
+     */
+    public ResponseEntity<Object> get(String resource, String path, @Nullable Long userId,
+                                      @Nullable Map<String, Object> parameters,
+                                      Supplier<ResponseEntity<Object>> loader) {
+        if (ttlNanos <= 0 || maxEntries <= 0) {
+            return loader.get();
+        }
+
+        Key key = new Key(path, parameters != null ? Map.copyOf(parameters) : Map.of(), userId);
+        long loadVersion;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+                hits++;
+                return new ResponseEntity<>(entry.body, entry.headers, entry.status);
+            }
+            if (entry != null) {
+                remove(key, entry);
+            }
+            misses++;
+            loadVersion = version(resource);
+        }
+
+        ResponseEntity<Object> response = loader.get();
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() instanceof byte[] body
+                && body.length <= maxBytes) {
+            Entry entry = new Entry(resource, response.getStatusCode(), HttpHeaders.readOnlyHttpHeaders(response.getHeaders()),
+                    body, System.nanoTime() + ttlNanos);
+            put(key, entry, loadVersion);
+        }
+
+        return response;
+    }
+
+    public synchronized void evict(String resource) {
+        versions[stripe(resource)]++;
+        evictIf(resource::equals);
+    }
+
+    public synchronized void evictItems() {
+        itemsGeneration++;
+        evictIf(resource -> resource.startsWith(ITEM_PREFIX));
+    }
+
+    public synchronized void evictRequests() {
+        requestsGeneration++;
+        evictIf(resource -> resource.startsWith(REQUEST_PREFIX));
+    }
+
+    public synchronized void evictAll() {
+        generation++;
+        evictIf(resource -> true);
+    }
+
+    private void evictIf(Predicate<String> resourcePredicate) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (resourcePredicate.test(entry.resource)) {
+                iterator.remove();
+                bytes -= entry.body.length;
+                evictions++;
+            }
+        }
+    }
+
+    private synchronized void put(Key key, Entry entry, long loadVersion) {
+        if (loadVersion != version(entry.resource)) {
+            return;
+        }
+
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            bytes -= previous.body.length;
+        }
+        bytes += entry.body.length;
+        puts++;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || bytes > maxBytes) {
+            bytes -= eldest.next().body.length;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private long version(String resource) {
+        long familyGeneration = 0;
+        if (resource.startsWith(ITEM_PREFIX)) {
+            familyGeneration = itemsGeneration;
+        } else if (resource.startsWith(REQUEST_PREFIX)) {
+            familyGeneration = requestsGeneration;
+        }
+
+        return generation + familyGeneration + versions[stripe(resource)];
+    }
+
+    private static int stripe(String resource) {
+        return Math.floorMod(resource.hashCode(), VERSION_STRIPES);
+    }
+
+    private void remove(Key key, Entry entry) {
+        entries.remove(key);
+        bytes -= entry.body.length;
+        evictions++;
+    }
+
+    private record Key(String path, Map<String, Object> parameters, Long userId) {
+    }
+
+    private record Entry(String resource, HttpStatusCode status, HttpHeaders headers, byte[] body, long expiresAt) {
+    }
+
+    private static final class Metrics extends CacheMeterBinder<ResponseCache> {
+
+        private Metrics(ResponseCache cache, String name) {
+            super(cache, name, Tags.empty());
+        }
+
+        @Override
+        protected Long size() {
+            ResponseCache cache = getCache();
+            synchronized (cache) {
+                return (long) cache.entries.size();
+            }
+        }
+
+        @Override
+        protected long hitCount() {
+            ResponseCache cache = getCache();
+            synchronized (cache) {
+                return cache.hits;
+            }
+        }
+
+        @Override
+        protected Long missCount() {
+            ResponseCache cache = getCache();
+            synchronized (cache) {
+                return cache.misses;
+            }
+        }
+
+        @Override
+        protected Long evictionCount() {
+            ResponseCache cache = getCache();
+            synchronized (cache) {
+                return cache.evictions;
+            }
+        }
+
+        @Override
+        protected long putCount() {
+            ResponseCache cache = getCache();
+            synchronized (cache) {
+                return cache.puts;
+            }
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+            Gauge.builder("cache.bytes", getCache(), cache -> {
+                synchronized (cache) {
+                    return cache.bytes;
+                }
+            })
+                    .tags(getTagsWithCacheName())
+                    .description("Total size of cached response bodies")
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and timeouts of the HTTP client shared by all clients of the shareit server.
+ *
+ * @param maxTotal                 max connections in the pool
+ * @param maxPerRoute              max connections to one host, the gateway talks to a single server
+ * @param connectTimeout           time to establish a connection
+ * @param responseTimeout          time to wait for a response once the request is sent
+ * @param connectionRequestTimeout time to wait for a free connection when the pool is exhausted
+ * @param keepAlive                how long an idle connection is reused when the server sends no Keep-Alive
+ * @param idleEviction             idle connections older than this are closed by a background evictor
+ */
+@ConfigurationProperties("shareit-server.http-client")
+public record ServerHttpClientProperties(int maxTotal,
+                                         int maxPerRoute,
+                                         Duration connectTimeout,
+                                         Duration responseTimeout,
+                                         Duration connectionRequestTimeout,
+                                         Duration keepAlive,
+                                         Duration idleEviction) {
+}
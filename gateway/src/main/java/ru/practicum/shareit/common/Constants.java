@@ -2,4 +2,9 @@ package ru.practicum.shareit.common;
 
 public class Constants {
     public static final String X_SHARER_USER_ID = "X-Sharer-User-Id";
+
+    /**
+     * Profile of the non-blocking gateway stack, without it the blocking RestTemplate stack is used
+     */
+    public static final String ASYNC_PROFILE = "async";
 }
@@ -0,0 +1,84 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.client.AsyncBaseClient;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
+import static ru.practicum.shareit.item.ItemClient.SUGGESTIONS_CACHE_CONTROL;
+
+@Service
+@Profile(ASYNC_PROFILE)
+public class AsyncItemClient extends AsyncBaseClient {
+
+    private static final String API_PREFIX = "/items";
+
+    public AsyncItemClient(@Value("${shareit-server.url}") String serverUrl, CloseableHttpAsyncClient httpClient,
+                           ObjectMapper objectMapper,
+                           @Value("${shareit-server.passthrough:true}") boolean passthrough) {
+        super(serverUrl + API_PREFIX, httpClient, objectMapper, passthrough);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> add(ItemDto itemDto, Long userId) {
+        return post("", userId, itemDto);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> update(ItemDto itemDto, Long userId) {
+        return patch("/" + itemDto.getId(), userId, itemDto);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getById(Long userId, Long itemId) {
+        return get("/" + itemId, userId);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getItemsByOwnerId(Long userId, int from, int size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("?from={from}&size={size}", userId, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getItemsByText(String text, int from, int size,
+                                                                    boolean byRelevance) {
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size,
+                "byRelevance", byRelevance
+        );
+        return get("/search?text={text}&from={from}&size={size}&byRelevance={byRelevance}", null, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getSuggestions(String prefix, int size) {
+        Map<String, Object> parameters = Map.of(
+                "prefix", prefix,
+                "size", size
+        );
+        return get("/suggest?prefix={prefix}&size={size}", null, parameters)
+                .thenApply(response -> {
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        return response;
+                    }
+
+                    return ResponseEntity.status(response.getStatusCode())
+                            .headers(response.getHeaders())
+                            .cacheControl(SUGGESTIONS_CACHE_CONTROL)
+                            .body(response.getBody());
+                });
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> addComment(CommentDto commentDto, Long userId, Long itemId) {
+        return post("/" + itemId + "/comment", userId, commentDto);
+    }
+
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.item;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.groups.Default;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.common.ValidationGroups;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.concurrent.CompletableFuture;
+
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
+import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
+
+/**
+ * Non-blocking variant of {@link ItemController} for the {@code async} profile
+ */
+@Slf4j
+@Controller
+@Profile(ASYNC_PROFILE)
+@AllArgsConstructor
+@Validated
+@RequestMapping("/items")
+public class AsyncItemController {
+
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final AsyncItemClient itemClient;
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<Object>> add(@RequestBody @Validated({ValidationGroups.Create.class, Default.class}) ItemDto itemDto,
+                                                         @RequestHeader(X_SHARER_USER_ID) Long userId) {
+        log.info("Добавление новой вещи {}", itemDto);
+        return itemClient.add(itemDto, userId);
+    }
+
+    @PatchMapping("/{itemId}")
+    public CompletableFuture<ResponseEntity<Object>> update(@PathVariable Long itemId, @RequestBody ItemDto itemDto,
+                                                            @RequestHeader(X_SHARER_USER_ID) Long userId) {
+        log.info("Обновление вещи с ID {}", itemId);
+        itemDto.setId(itemId);
+        return itemClient.update(itemDto, userId);
+    }
+
+    @GetMapping("/{itemId}")
+    public CompletableFuture<ResponseEntity<Object>> getById(@RequestHeader(X_SHARER_USER_ID) Long userId,
+                                                             @PathVariable Long itemId) {
+        log.info("Получить вещь по ID - {}", itemId);
+        return itemClient.getById(userId, itemId);
+    }
+
+    @GetMapping
+    public CompletableFuture<ResponseEntity<Object>> getItemsByOwnerId(@RequestHeader(X_SHARER_USER_ID) Long userId,
+                                                                       @RequestParam(defaultValue = "0") int from,
+                                                                       @RequestParam(defaultValue = "10") int size) {
+        log.info("Получить все вещи владельца - {}", userId);
+        return itemClient.getItemsByOwnerId(userId, from, size);
+    }
+
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity<Object>> getItemsByText(@RequestParam String text,
+                                                                    @RequestParam(defaultValue = "0") int from,
+                                                                    @RequestParam(defaultValue = "10") int size,
+                                                                    @RequestParam(defaultValue = "false") boolean byRelevance) {
+        log.info("Получить вещи по тексту в названии и описании");
+        return itemClient.getItemsByText(text, from, size, byRelevance);
+    }
+
+    @GetMapping("/suggest")
+    public CompletableFuture<ResponseEntity<Object>> getSuggestions(@RequestParam @NotBlank String prefix,
+                                                                    @Positive @Max(MAX_SUGGESTIONS)
+                                                                    @RequestParam(defaultValue = "10") int size) {
+        log.info("Получить подсказки названий вещей по префиксу");
+        return itemClient.getSuggestions(prefix, size);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public CompletableFuture<ResponseEntity<Object>> addComment(@RequestHeader(X_SHARER_USER_ID) Long userId,
+                                                                @PathVariable Long itemId,
+                                                                @Valid @RequestBody CommentDto commentDto) {
+        log.info("Добавить комментарий к вещи с ID - {}", itemId);
+        return itemClient.addComment(commentDto, userId, itemId);
+    }
+
+}
@@ -3,42 +3,69 @@ package ru.practicum.shareit.item;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.Duration;
 import java.util.Map;
 
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
+
 @Service
+@Profile("!" + ASYNC_PROFILE)
 public class ItemClient extends BaseClient {
 
     private static final String API_PREFIX = "/items";
 
+    /**
+     * Suggestions change only when items are added or renamed, a few seconds of staleness
+     * lets browsers and proxies absorb the request per keystroke.
+     */
+    static final CacheControl SUGGESTIONS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(10))
+            .cachePublic();
+
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory,
+                      @Value("${shareit-server.passthrough:true}") boolean passthrough,
+                      ResponseCache responseCache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                passthrough,
+                responseCache
         );
     }
 
     public ResponseEntity<Object> add(ItemDto itemDto, Long userId) {
-        return post("", userId, itemDto);
+        return evicting(post("", userId, itemDto), cache -> {
+            cache.evict(ResponseCache.ITEM_SEARCH);
+            if (itemDto.getRequestId() != null) {
+                cache.evict(ResponseCache.request(itemDto.getRequestId()));
+            }
+        });
     }
 
     public ResponseEntity<Object> update(ItemDto itemDto, Long userId) {
-        return patch("/" + itemDto.getId(), userId, itemDto);
+        return evicting(patch("/" + itemDto.getId(), userId, itemDto), cache -> {
+            cache.evict(ResponseCache.item(itemDto.getId()));
+            cache.evict(ResponseCache.ITEM_SEARCH);
+            cache.evictRequests();
+        });
     }
 
     public ResponseEntity<Object> getById(Long userId, Long itemId) {
-        return get("/" + itemId, userId);
-
+        return cachedGet(ResponseCache.item(itemId), "/" + itemId, userId, null);
     }
 
     public ResponseEntity<Object> getItemsByOwnerId(Long userId, int from, int size) {
@@ -46,20 +73,39 @@ public class ItemClient extends BaseClient {
                 "from", from,
                 "size", size
         );
-        return get("", userId,  parameters);
+        return get("?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getItemsByText(String text, int from, int size) {
+    public ResponseEntity<Object> getItemsByText(String text, int from, int size, boolean byRelevance) {
         Map<String, Object> parameters = Map.of(
                 "text", text,
                 "from", from,
+                "size", size,
+                "byRelevance", byRelevance
+        );
+        return cachedGet(ResponseCache.ITEM_SEARCH, "/search?text={text}&from={from}&size={size}&byRelevance={byRelevance}",
+                null, parameters);
+    }
+
+    public ResponseEntity<Object> getSuggestions(String prefix, int size) {
+        Map<String, Object> parameters = Map.of(
+                "prefix", prefix,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", null, parameters);
+        ResponseEntity<Object> response = get("/suggest?prefix={prefix}&size={size}", null, parameters);
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            return response;
+        }
+
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .cacheControl(SUGGESTIONS_CACHE_CONTROL)
+                .body(response.getBody());
     }
 
     public ResponseEntity<Object> addComment(CommentDto commentDto, Long userId, Long itemId) {
-        return post("/" + itemId + "/comment", userId, commentDto);
+        return evicting(post("/" + itemId + "/comment", userId, commentDto),
+                cache -> cache.evict(ResponseCache.item(itemId)));
     }
 
 }
@@ -1,9 +1,13 @@
 package ru.practicum.shareit.item;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.groups.Default;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
@@ -12,15 +16,19 @@ import ru.practicum.shareit.common.ValidationGroups;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
 import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
 
 @Slf4j
 @Controller
+@Profile("!" + ASYNC_PROFILE)
 @AllArgsConstructor
 @Validated
 @RequestMapping("/items")
 public class ItemController {
 
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final ItemClient itemClient;
 
     @PostMapping
@@ -56,9 +64,18 @@ public class ItemController {
     @GetMapping("/search")
     public ResponseEntity<Object> getItemsByText(@RequestParam String text,
                                                  @RequestParam(defaultValue = "0") int from,
-                                                 @RequestParam(defaultValue = "10") int size) {
+                                                 @RequestParam(defaultValue = "10") int size,
+                                                 @RequestParam(defaultValue = "false") boolean byRelevance) {
         log.info("Получить вещи по тексту в названии и описании");
-        return itemClient.getItemsByText(text, from, size);
+        return itemClient.getItemsByText(text, from, size, byRelevance);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<Object> getSuggestions(@RequestParam @NotBlank String prefix,
+                                                 @Positive @Max(MAX_SUGGESTIONS)
+                                                 @RequestParam(defaultValue = "10") int size) {
+        log.info("Получить подсказки названий вещей по префиксу");
+        return itemClient.getSuggestions(prefix, size);
     }
 
     @PostMapping("/{itemId}/comment")
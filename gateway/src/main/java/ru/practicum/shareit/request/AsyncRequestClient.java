@@ -0,0 +1,55 @@
+package ru.practicum.shareit.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.client.AsyncBaseClient;
+import ru.practicum.shareit.request.dto.RequestDto;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
+
+@Service
+@Profile(ASYNC_PROFILE)
+public class AsyncRequestClient extends AsyncBaseClient {
+
+    private static final String API_PREFIX = "/requests";
+
+    public AsyncRequestClient(@Value("${shareit-server.url}") String serverUrl, CloseableHttpAsyncClient httpClient,
+                              ObjectMapper objectMapper,
+                              @Value("${shareit-server.passthrough:true}") boolean passthrough) {
+        super(serverUrl + API_PREFIX, httpClient, objectMapper, passthrough);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> add(RequestDto requestDto, Long userId) {
+        return post("", userId, requestDto);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getAllByOwnerId(Long userId) {
+        return get("", userId);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getAllByUserIdAndPageable(long userId, int from, int size,
+                                                                               String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("/all" + "?from={from}&size={size}", userId, parameters);
+        }
+
+        parameters.put("cursor", cursor);
+        return get("/all" + "?from={from}&size={size}&cursor={cursor}", userId, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getRequestById(Long userId, Long requestId) {
+        return get("/" + requestId, userId);
+    }
+
+}
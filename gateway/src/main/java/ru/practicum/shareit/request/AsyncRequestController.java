@@ -0,0 +1,58 @@
+package ru.practicum.shareit.request;
+
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.request.dto.RequestDto;
+
+import java.util.concurrent.CompletableFuture;
+
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
+import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
+
+/**
+ * Non-blocking variant of {@link RequestController} for the {@code async} profile
+ */
+@Slf4j
+@Controller
+@Profile(ASYNC_PROFILE)
+@AllArgsConstructor
+@RequestMapping(path = "/requests")
+public class AsyncRequestController {
+
+    private final AsyncRequestClient requestClient;
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<Object>> add(@Valid @RequestBody RequestDto requestDto,
+                                                         @RequestHeader(X_SHARER_USER_ID) Long userId) {
+        log.info("Добавление нового запроса на вещь {}", requestDto);
+        return requestClient.add(requestDto, userId);
+    }
+
+    @GetMapping
+    public CompletableFuture<ResponseEntity<Object>> getAllByOwnerId(@RequestHeader(X_SHARER_USER_ID) Long userId) {
+        log.info("Получить все запросы владельца - {}", userId);
+        return requestClient.getAllByOwnerId(userId);
+    }
+
+    @GetMapping("/all")
+    public CompletableFuture<ResponseEntity<Object>> getAllByUserIdAndPageable(@RequestHeader(X_SHARER_USER_ID) long userId,
+                                                                               @RequestParam(defaultValue = "0") int from,
+                                                                               @RequestParam(defaultValue = "10") int size,
+                                                                               @RequestParam(required = false) String cursor) {
+        log.info("Получение всех запросов, кроме тех, у которых requestorId равен {}", userId);
+        return requestClient.getAllByUserIdAndPageable(userId, from, size, cursor);
+    }
+
+    @GetMapping("/{requestId}")
+    public CompletableFuture<ResponseEntity<Object>> getById(@RequestHeader(X_SHARER_USER_ID) Long userId,
+                                                             @PathVariable Long requestId) {
+        log.info("Получить вещь по ID - {}", requestId);
+        return requestClient.getRequestById(userId, requestId);
+    }
+
+}
@@ -3,11 +3,13 @@ package ru.practicum.shareit.request;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.dto.RequestDto;
 
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
 import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
 
 /**
@@ -15,6 +17,7 @@ import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
  */
 @Slf4j
 @Controller
+@Profile("!" + ASYNC_PROFILE)
 @AllArgsConstructor
 @RequestMapping(path = "/requests")
 public class RequestController {
@@ -37,9 +40,10 @@ public class RequestController {
     @GetMapping("/all")
     public ResponseEntity<Object> getAllByUserIdAndPageable(@RequestHeader(X_SHARER_USER_ID) long userId,
                                                                                @RequestParam(defaultValue = "0") int from,
-                                                                               @RequestParam(defaultValue = "10") int size) {
+                                                                               @RequestParam(defaultValue = "10") int size,
+                                                                               @RequestParam(required = false) String cursor) {
         log.info("Получение всех запросов, кроме тех, у которых requestorId равен {}", userId);
-        return requestClient.getAllByUserIdAndPageable(userId, from, size);
+        return requestClient.getAllByUserIdAndPageable(userId, from, size, cursor);
     }
 
     @GetMapping("/{requestId}")
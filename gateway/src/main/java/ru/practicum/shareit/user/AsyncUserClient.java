@@ -0,0 +1,48 @@
+package ru.practicum.shareit.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.client.AsyncBaseClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.concurrent.CompletableFuture;
+
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
+
+@Service
+@Profile(ASYNC_PROFILE)
+public class AsyncUserClient extends AsyncBaseClient {
+
+    private static final String API_PREFIX = "/users";
+
+    public AsyncUserClient(@Value("${shareit-server.url}") String serverUrl, CloseableHttpAsyncClient httpClient,
+                           ObjectMapper objectMapper,
+                           @Value("${shareit-server.passthrough:true}") boolean passthrough) {
+        super(serverUrl + API_PREFIX, httpClient, objectMapper, passthrough);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> add(UserDto userDto) {
+        return post("", userDto);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> update(Long userId, UserDto userDto) {
+        return patch("/" + userId, userDto);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> delete(long id) {
+        return delete("/" + id);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getById(long id) {
+        return get("/" + id);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getAll() {
+        return get("");
+    }
+
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.user;
+
+import jakarta.validation.groups.Default;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.common.ValidationGroups;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.concurrent.CompletableFuture;
+
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
+
+/**
+ * Non-blocking variant of {@link UserController} for the {@code async} profile
+ */
+@Slf4j
+@Controller
+@Profile(ASYNC_PROFILE)
+@RequiredArgsConstructor
+@Validated
+@RequestMapping(path = "/users")
+public class AsyncUserController {
+
+    private final AsyncUserClient userClient;
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<Object>> add(
+            @RequestBody @Validated({ValidationGroups.Create.class, Default.class}) UserDto userDto) {
+        log.info("Добавление нового пользователя {}", userDto);
+        return userClient.add(userDto);
+    }
+
+    @PatchMapping("/{userId}")
+    public CompletableFuture<ResponseEntity<Object>> update(@PathVariable Long userId,
+                                                            @RequestBody @Validated({ValidationGroups.Update.class, Default.class}) UserDto userDto) {
+        log.info("Обновление пользователя с ID {}", userId);
+        userDto.setId(userId);
+        return userClient.update(userId, userDto);
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Object>> delete(@PathVariable long id) {
+        log.info("Удаление пользователя {}", id);
+        return userClient.delete(id).thenApply(response -> ResponseEntity.ok(id));
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Object>> getById(@PathVariable long id) {
+        log.info("Получить пользователя по ID - {}", id);
+        return userClient.getById(id);
+    }
+
+    @GetMapping
+    public CompletableFuture<ResponseEntity<Object>> getAllUsers() {
+        log.info("Получить пользователей");
+        return userClient.getAll();
+    }
+
+}
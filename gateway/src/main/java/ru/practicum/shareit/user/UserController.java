@@ -3,6 +3,7 @@ package ru.practicum.shareit.user;
 import jakarta.validation.groups.Default;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
@@ -10,11 +11,14 @@ import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.common.ValidationGroups;
 
+import static ru.practicum.shareit.common.Constants.ASYNC_PROFILE;
+
 /**
  * User rest controller
  */
 @Slf4j
 @Controller
+@Profile("!" + ASYNC_PROFILE)
 @RequiredArgsConstructor
 @Validated
 @RequestMapping(path = "/users")
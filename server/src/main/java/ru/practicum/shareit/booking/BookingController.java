@@ -3,19 +3,25 @@ package ru.practicum.shareit.booking;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusResultDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.booking.service.BookingService;
 
 import jakarta.validation.Valid;
 import java.util.List;
 
+import static ru.practicum.shareit.common.Constants.X_NEXT_CURSOR;
 import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
 
 /**
  * Booking rest controller
  */
 @Slf4j
+@Validated
 @RestController
 @AllArgsConstructor
 @RequestMapping(path = "/bookings")
@@ -30,6 +36,13 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.add(bookingDto, userId));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BookingDto>> addAll(@RequestBody List<@Valid BookingDto> bookingDtos,
+                                                   @RequestHeader(X_SHARER_USER_ID) Long userId) {
+        log.info("Добавление бронирований: {}", bookingDtos.size());
+        return ResponseEntity.ok(bookingService.addAll(bookingDtos, userId));
+    }
+
     @PatchMapping("/{bookingId}")
     public ResponseEntity<BookingDto> updateStatus(@RequestHeader(X_SHARER_USER_ID) Long userId,
                                                    @PathVariable Long bookingId,
@@ -38,6 +51,14 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.updateStatus(bookingId, userId, approved));
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<List<BookingStatusResultDto>> updateStatuses(
+            @RequestHeader(X_SHARER_USER_ID) Long userId,
+            @RequestBody List<@Valid BookingStatusUpdateDto> updates) {
+        log.info("Обновление статусов бронирований: {}", updates.size());
+        return ResponseEntity.ok(bookingService.updateStatuses(updates, userId));
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<BookingDto> getById(@RequestHeader(X_SHARER_USER_ID) Long userId,
                                               @PathVariable Long bookingId) {
@@ -49,18 +70,35 @@ public class BookingController {
     public ResponseEntity<List<BookingDto>> getAll(@RequestHeader(X_SHARER_USER_ID) Long userId,
                                                    @RequestParam(defaultValue = "ALL") String state,
                                                    @RequestParam(defaultValue = "0") int from,
-                                                   @RequestParam(defaultValue = "10") int size) {
+                                                   @RequestParam(defaultValue = "10") int size,
+                                                   @RequestParam(required = false) String cursor) {
         log.info("Получить все бронирования");
-        return ResponseEntity.ok(bookingService.getAllByBookerId(userId, state, from, size));
+        List<BookingDto> bookings = cursor == null
+                ? bookingService.getAllByBookerId(userId, state, from, size)
+                : bookingService.getAllByBookerIdAfterCursor(userId, state, cursor, size);
+        return withNextCursor(bookings, size);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<List<BookingDto>> getAllByOwnerId(@RequestHeader(X_SHARER_USER_ID) Long userId,
                                                             @RequestParam(defaultValue = "ALL") String state,
                                                             @RequestParam(defaultValue = "0") int from,
-                                                            @RequestParam(defaultValue = "10") int size) {
+                                                            @RequestParam(defaultValue = "10") int size,
+                                                            @RequestParam(required = false) String cursor) {
         log.info("Получить все бронирования пользователя");
-        return ResponseEntity.ok(bookingService.getAllByOwnerId(userId, state, from, size));
+        List<BookingDto> bookings = cursor == null
+                ? bookingService.getAllByOwnerId(userId, state, from, size)
+                : bookingService.getAllByOwnerIdAfterCursor(userId, state, cursor, size);
+        return withNextCursor(bookings, size);
+    }
+
+    private static ResponseEntity<List<BookingDto>> withNextCursor(List<BookingDto> bookings, int size) {
+        if (size > 0 && bookings.size() == size) {
+            String nextCursor = BookingCursor.encode(bookings.get(bookings.size() - 1));
+            return ResponseEntity.ok().header(X_NEXT_CURSOR, nextCursor).body(bookings);
+        }
+
+        return ResponseEntity.ok(bookings);
     }
 
 }
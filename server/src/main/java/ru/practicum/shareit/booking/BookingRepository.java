@@ -1,48 +1,272 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    List<Booking> findAllByBookerId(Long bookerId, Pageable pageable);
+    String BOOKING_VIEW = "SELECT new ru.practicum.shareit.booking.model.BookingView(" +
+            "b.id, b.startDate, b.endDate, b.status, " +
+            "i.id, i.name, i.description, i.available, i.owner.id, i.request.id, " +
+            "u.id, u.name, u.email) " +
+            "FROM Booking b JOIN b.item i JOIN b.booker u ";
 
-    @Query("SELECT b FROM Booking b " +
+    String AFTER_CURSOR = "AND (b.startDate, b.id) < (:cursorStart, :cursorId) ";
+
+    String CURSOR_ORDER = "ORDER BY b.startDate DESC, b.id DESC";
+
+    @Query(BOOKING_VIEW +
+            "WHERE b.booker.id = :bookerId")
+    List<BookingView> findAllByBookerId(@Param("bookerId") Long bookerId, Pageable pageable);
+
+    @Query(BOOKING_VIEW +
             "WHERE :now BETWEEN b.startDate AND b.endDate " +
             "AND b.booker.id = :bookerId")
-    List<Booking> findByBookerIdCurrent(@Param("bookerId") Long bookerId, @Param("now") LocalDateTime now);
+    List<BookingView> findByBookerIdCurrent(@Param("bookerId") Long bookerId, @Param("now") LocalDateTime now,
+                                            Pageable pageable);
 
-    List<Booking> findByBookerIdAndEndDateIsBefore(Long bookerId, LocalDateTime endDate, Pageable pageable);
+    @Query(BOOKING_VIEW +
+            "WHERE b.booker.id = :bookerId " +
+            "AND b.endDate < :endDate")
+    List<BookingView> findByBookerIdAndEndDateIsBefore(@Param("bookerId") Long bookerId,
+                                                       @Param("endDate") LocalDateTime endDate,
+                                                       Pageable pageable);
 
-    List<Booking> findByBookerIdAndStartDateIsAfter(Long bookerId, LocalDateTime startDate, Pageable pageable);
+    @Query(BOOKING_VIEW +
+            "WHERE b.booker.id = :bookerId " +
+            "AND b.startDate > :startDate")
+    List<BookingView> findByBookerIdAndStartDateIsAfter(@Param("bookerId") Long bookerId,
+                                                        @Param("startDate") LocalDateTime startDate,
+                                                        Pageable pageable);
 
-    List<Booking> findByBookerIdAndStatus(Long bookerId, BookingStatus status, Pageable pageable);
+    @Query(BOOKING_VIEW +
+            "WHERE b.booker.id = :bookerId " +
+            "AND b.status = :status")
+    List<BookingView> findByBookerIdAndStatus(@Param("bookerId") Long bookerId,
+                                              @Param("status") BookingStatus status,
+                                              Pageable pageable);
 
-    @Query("SELECT b FROM Booking b " +
-            "WHERE b.item.owner.id = :ownerId " +
-            "ORDER BY b.startDate DESC")
-    List<Booking> findAllByItemOwner(@Param("ownerId") Long ownerId, Pageable pageable);
+    @Query(BOOKING_VIEW +
+            "WHERE i.owner.id = :ownerId")
+    List<BookingView> findAllByItemOwner(@Param("ownerId") Long ownerId, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b " +
-            "WHERE b.item.owner.id = :ownerId " +
+    @Query(BOOKING_VIEW +
+            "WHERE i.owner.id = :ownerId " +
+            "AND :now BETWEEN b.startDate AND b.endDate")
+    List<BookingView> findCurrentBookingsByOwner(@Param("ownerId") Long ownerId, @Param("now") LocalDateTime now,
+                                                 Pageable pageable);
+
+    @Query(BOOKING_VIEW +
+            "WHERE i.owner.id = :ownerId " +
+            "AND b.endDate < :end")
+    List<BookingView> findByItemOwnerIdAndEndDateIsBefore(@Param("ownerId") Long ownerId,
+                                                          @Param("end") LocalDateTime end,
+                                                          Pageable pageable);
+
+    @Query(BOOKING_VIEW +
+            "WHERE i.owner.id = :ownerId " +
+            "AND b.startDate > :start")
+    List<BookingView> findByItemOwnerIdAndStartDateIsAfter(@Param("ownerId") Long ownerId,
+                                                           @Param("start") LocalDateTime start,
+                                                           Pageable pageable);
+
+    @Query(BOOKING_VIEW +
+            "WHERE i.owner.id = :ownerId " +
+            "AND b.status = :status")
+    List<BookingView> findByItemOwnerIdAndStatus(@Param("ownerId") Long ownerId,
+                                                 @Param("status") BookingStatus status,
+                                                 Pageable pageable);
+
+    @Query(BOOKING_VIEW +
+            "WHERE b.booker.id = :bookerId " +
+            AFTER_CURSOR +
+            CURSOR_ORDER)
+    List<BookingView> findAllByBookerIdAfterCursor(@Param("bookerId") Long bookerId,
+                                                   @Param("cursorStart") LocalDateTime cursorStart,
+                                                   @Param("cursorId") Long cursorId,
+                                                   Pageable pageable);
+
+    @Query(BOOKING_VIEW +
+            "WHERE b.booker.id = :bookerId " +
+            "AND :now BETWEEN b.startDate AND b.endDate " +
+            AFTER_CURSOR +
+            CURSOR_ORDER)
+    List<BookingView> findCurrentByBookerIdAfterCursor(@Param("bookerId") Long bookerId,
+                                                       @Param("now") LocalDateTime now,
+                                                       @Param("cursorStart") LocalDateTime cursorStart,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
+
+    @Query(BOOKING_VIEW +
+            "WHERE b.booker.id = :bookerId " +
+            "AND b.endDate < :now " +
+            AFTER_CURSOR +
+            CURSOR_ORDER)
+    List<BookingView> findPastByBookerIdAfterCursor(@Param("bookerId") Long bookerId,
+                                                    @Param("now") LocalDateTime now,
+                                                    @Param("cursorStart") LocalDateTime cursorStart,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+
+    @Query(BOOKING_VIEW +
+            "WHERE b.booker.id = :bookerId " +
+            "AND b.startDate > :now " +
+            AFTER_CURSOR +
+            CURSOR_ORDER)
+    List<BookingView> findFutureByBookerIdAfterCursor(@Param("bookerId") Long bookerId,
+                                                      @Param("now") LocalDateTime now,
+                                                      @Param("cursorStart") LocalDateTime cursorStart,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Pageable pageable);
+
+    @Query(BOOKING_VIEW +
+            "WHERE b.booker.id = :bookerId " +
+            "AND b.status = :status " +
+            AFTER_CURSOR +
+            CURSOR_ORDER)
+    List<BookingView> findByBookerIdAndStatusAfterCursor(@Param("bookerId") Long bookerId,
+                                                         @Param("status") BookingStatus status,
+                                                         @Param("cursorStart") LocalDateTime cursorStart,
+                                                         @Param("cursorId") Long cursorId,
+                                                         Pageable pageable);
+
+    @Query(BOOKING_VIEW +
+            "WHERE i.owner.id = :ownerId " +
+            AFTER_CURSOR +
+            CURSOR_ORDER)
+    List<BookingView> findAllByItemOwnerAfterCursor(@Param("ownerId") Long ownerId,
+                                                    @Param("cursorStart") LocalDateTime cursorStart,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+
+    @Query(BOOKING_VIEW +
+            "WHERE i.owner.id = :ownerId " +
             "AND :now BETWEEN b.startDate AND b.endDate " +
-            "ORDER BY b.startDate DESC")
-    List<Booking> findCurrentBookingsByOwner(@Param("ownerId") Long ownerId, @Param("now") LocalDateTime now);
+            AFTER_CURSOR +
+            CURSOR_ORDER)
+    List<BookingView> findCurrentByItemOwnerAfterCursor(@Param("ownerId") Long ownerId,
+                                                        @Param("now") LocalDateTime now,
+                                                        @Param("cursorStart") LocalDateTime cursorStart,
+                                                        @Param("cursorId") Long cursorId,
+                                                        Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndEndDateIsBefore(Long ownerId, LocalDateTime end, Pageable pageable);
+    @Query(BOOKING_VIEW +
+            "WHERE i.owner.id = :ownerId " +
+            "AND b.endDate < :now " +
+            AFTER_CURSOR +
+            CURSOR_ORDER)
+    List<BookingView> findPastByItemOwnerAfterCursor(@Param("ownerId") Long ownerId,
+                                                     @Param("now") LocalDateTime now,
+                                                     @Param("cursorStart") LocalDateTime cursorStart,
+                                                     @Param("cursorId") Long cursorId,
+                                                     Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndStartDateIsAfter(Long ownerId, LocalDateTime start, Pageable pageable);
+    @Query(BOOKING_VIEW +
+            "WHERE i.owner.id = :ownerId " +
+            "AND b.startDate > :now " +
+            AFTER_CURSOR +
+            CURSOR_ORDER)
+    List<BookingView> findFutureByItemOwnerAfterCursor(@Param("ownerId") Long ownerId,
+                                                       @Param("now") LocalDateTime now,
+                                                       @Param("cursorStart") LocalDateTime cursorStart,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndStatus(Long ownerId, BookingStatus status, Pageable pageable);
+    @Query(BOOKING_VIEW +
+            "WHERE i.owner.id = :ownerId " +
+            "AND b.status = :status " +
+            AFTER_CURSOR +
+            CURSOR_ORDER)
+    List<BookingView> findByItemOwnerAndStatusAfterCursor(@Param("ownerId") Long ownerId,
+                                                          @Param("status") BookingStatus status,
+                                                          @Param("cursorStart") LocalDateTime cursorStart,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Pageable pageable);
 
     List<Booking> findAllByItemId(Long itemId, Sort sort);
 
+    List<Booking> findAllByStatusInAndEndDateAfter(Collection<BookingStatus> statuses, LocalDateTime endDate);
+
+    Optional<Booking> findFirstByItemIdAndStatusAndStartDateBeforeOrderByStartDateDesc(Long itemId,
+                                                                                        BookingStatus status,
+                                                                                        LocalDateTime now);
+
+    Optional<Booking> findFirstByItemIdAndStatusAndStartDateAfterOrderByStartDateAsc(Long itemId,
+                                                                                      BookingStatus status,
+                                                                                      LocalDateTime now);
+
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN :itemIds " +
+            "AND b.status = :status " +
+            "AND b.startDate = (SELECT MAX(lb.startDate) FROM Booking lb " +
+            "WHERE lb.item.id = b.item.id AND lb.status = :status AND lb.startDate < :now)")
+    List<Booking> findLastBookingsByItemIds(@Param("itemIds") Collection<Long> itemIds,
+                                            @Param("status") BookingStatus status,
+                                            @Param("now") LocalDateTime now);
+
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.id IN :itemIds " +
+            "AND b.status = :status " +
+            "AND b.startDate = (SELECT MIN(nb.startDate) FROM Booking nb " +
+            "WHERE nb.item.id = b.item.id AND nb.status = :status AND nb.startDate > :now)")
+    List<Booking> findNextBookingsByItemIds(@Param("itemIds") Collection<Long> itemIds,
+                                            @Param("status") BookingStatus status,
+                                            @Param("now") LocalDateTime now);
+
+    /**
+     * Moves the booking from {@code currentStatus} to {@code status} if it belongs to an available item of the owner
+     *
+     * @return number of updated rows, 0 when any of the conditions doesn't hold
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :status " +
+            "WHERE b.id = :bookingId " +
+            "AND b.status = :currentStatus " +
+            "AND b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId AND i.available = true)")
+    int updateStatusByOwner(@Param("bookingId") Long bookingId,
+                            @Param("ownerId") Long ownerId,
+                            @Param("currentStatus") BookingStatus currentStatus,
+                            @Param("status") BookingStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :status " +
+            "WHERE b.id IN :bookingIds " +
+            "AND b.status = :currentStatus " +
+            "AND b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId AND i.available = true)")
+    int updateStatusesByOwner(@Param("bookingIds") Collection<Long> bookingIds,
+                              @Param("ownerId") Long ownerId,
+                              @Param("currentStatus") BookingStatus currentStatus,
+                              @Param("status") BookingStatus status);
+
+    /**
+     * Locks the bookings until the end of the transaction, so their status can't change between the read and
+     * a following conditional update
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b " +
+            "JOIN FETCH b.item " +
+            "WHERE b.id IN :bookingIds")
+    List<Booking> findAllWithItemByIdIn(@Param("bookingIds") Collection<Long> bookingIds);
+
+    @Query(BOOKING_VIEW +
+            "WHERE b.id = :bookingId")
+    Optional<BookingView> findViewById(@Param("bookingId") Long bookingId);
+
+    boolean existsByBookerIdAndItemIdAndStatusAndEndDateBefore(Long bookerId, Long itemId, BookingStatus status,
+                                                               LocalDateTime date);
+
 }
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Keyset cursor for booking lists - position ({@code startDate}, {@code id}) of the last returned booking.
+ * Clients receive it as an opaque token and pass it back to get the next page.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingCursor {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime startDate;
+
+    private final Long id;
+
+    public static BookingCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = value.lastIndexOf(SEPARATOR);
+
+            LocalDateTime startDate = LocalDateTime.parse(value.substring(0, separatorIndex), DATE_TIME_FORMATTER);
+            Long id = Long.parseLong(value.substring(separatorIndex + 1));
+
+            return new BookingCursor(startDate, id);
+        } catch (RuntimeException e) {
+            throw new ValidationException("Неверный курсор страницы: " + token, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Cursor of the booking as the database stores it: the start date is truncated to the microsecond
+     * precision of the column, the DTO of a just saved booking may still carry nanoseconds
+     */
+    public static String encode(BookingDto bookingDto) {
+        LocalDateTime startDate = LocalDateTime.parse(bookingDto.getStartDate(), DATE_TIME_FORMATTER)
+                .truncatedTo(ChronoUnit.MICROS);
+        return new BookingCursor(startDate, bookingDto.getId()).encode();
+    }
+
+    public String encode() {
+        String value = DATE_TIME_FORMATTER.format(startDate) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
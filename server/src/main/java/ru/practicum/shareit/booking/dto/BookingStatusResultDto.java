@@ -0,0 +1,23 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.io.Serializable;
+
+/**
+ * DTO for the outcome of one booking in a bulk status update.
+ * {@code error} is set when the status was left unchanged.
+ */
+@Data
+@Builder
+public class BookingStatusResultDto implements Serializable {
+
+    private Long bookingId;
+
+    private BookingStatus status;
+
+    private String error;
+
+}
@@ -4,6 +4,7 @@ import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
@@ -43,6 +44,39 @@ public class BookingMapper {
                 .build();
     }
 
+    public static BookingDto toDto(BookingView view) {
+        ItemDto itemDto = ItemDto.builder()
+                .id(view.getItemId())
+                .name(view.getItemName())
+                .description(view.getItemDescription())
+                .available(view.getItemAvailable())
+                .ownerId(view.getItemOwnerId())
+                .requestId(view.getItemRequestId())
+                .build();
+        UserDto bookerDto = UserDto.builder()
+                .id(view.getBookerId())
+                .name(view.getBookerName())
+                .email(view.getBookerEmail())
+                .build();
+
+        return BookingDto.builder()
+                .id(view.getId())
+                .itemId(view.getItemId())
+                .itemDto(itemDto)
+                .bookerId(view.getBookerId())
+                .bookerDto(bookerDto)
+                .startDate(DATE_TIME_FORMATTER.format(view.getStartDate()))
+                .endDate(DATE_TIME_FORMATTER.format(view.getEndDate()))
+                .status(view.getStatus())
+                .build();
+    }
+
+    public static List<BookingDto> toDtoFromViews(List<BookingView> views) {
+        return views.stream()
+                .map(BookingMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
     public static BookingShortDto toShortDto(Booking booking) {
         if (booking == null) {
             return null;
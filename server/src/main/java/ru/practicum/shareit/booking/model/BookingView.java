@@ -0,0 +1,43 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model of {@link Booking} for booking lists.
+ * Selected with a constructor expression holding only the columns {@code BookingDto} needs,
+ * so list rows are not managed entities.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingView {
+
+    private final Long id;
+
+    private final LocalDateTime startDate;
+
+    private final LocalDateTime endDate;
+
+    private final BookingStatus status;
+
+    private final Long itemId;
+
+    private final String itemName;
+
+    private final String itemDescription;
+
+    private final Boolean itemAvailable;
+
+    private final Long itemOwnerId;
+
+    private final Long itemRequestId;
+
+    private final Long bookerId;
+
+    private final String bookerName;
+
+    private final String bookerEmail;
+
+}
@@ -0,0 +1,110 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.common.TransactionCallbacks;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of WAITING/APPROVED booking periods per item for overlap checks at write time.
+ * Only periods that have not ended yet are kept - a new booking can't start in the past,
+ * so ended periods of an item are dropped whenever its tree is looked at.
+ * The index is loaded once all singletons are created, before the web server starts taking requests.
+ * Changes made inside a transaction are applied or rolled back together with it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingIntervalIndex implements SmartInitializingSingleton {
+
+    private static final List<BookingStatus> INDEXED_STATUSES = List.of(BookingStatus.WAITING, BookingStatus.APPROVED);
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Long, BookingIntervalTree> treesByItemId = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Booking> bookings = bookingRepository.findAllByStatusInAndEndDateAfter(INDEXED_STATUSES,
+                LocalDateTime.now());
+
+        bookings.forEach(booking -> {
+            BookingIntervalTree tree = getTree(booking.getItem().getId());
+            synchronized (tree) {
+                tree.add(booking.getId(), booking.getStartDate(), booking.getEndDate());
+            }
+        });
+
+        log.info("Индекс периодов бронирований построен: {} бронирований", bookings.size());
+    }
+
+    public boolean overlaps(Long itemId, LocalDateTime start, LocalDateTime end) {
+        BookingIntervalTree tree = treesByItemId.get(itemId);
+        if (tree == null) {
+            return false;
+        }
+
+        synchronized (tree) {
+            tree.removeEndedBy(LocalDateTime.now());
+            return tree.overlaps(start, end);
+        }
+    }
+
+    /**
+     * Adds the booking period if it doesn't overlap already indexed periods of the item
+     *
+     * @return false when the period overlaps another booking
+     */
+    public boolean add(Booking booking) {
+        return add(booking.getItem().getId(), booking.getId(), booking.getStartDate(), booking.getEndDate());
+    }
+
+    public boolean add(Long itemId, Long bookingId, LocalDateTime start, LocalDateTime end) {
+        BookingIntervalTree tree = getTree(itemId);
+
+        synchronized (tree) {
+            tree.removeEndedBy(LocalDateTime.now());
+            if (tree.contains(bookingId)) {
+                return true;
+            }
+            if (tree.overlaps(start, end)) {
+                return false;
+            }
+            tree.add(bookingId, start, end);
+        }
+
+        TransactionCallbacks.afterRollback(() -> removeFromTree(itemId, bookingId));
+        return true;
+    }
+
+    public void remove(Booking booking) {
+        remove(booking.getItem().getId(), booking.getId());
+    }
+
+    public void remove(Long itemId, Long bookingId) {
+        TransactionCallbacks.afterCommit(() -> removeFromTree(itemId, bookingId));
+    }
+
+    private BookingIntervalTree getTree(Long itemId) {
+        return treesByItemId.computeIfAbsent(itemId, id -> new BookingIntervalTree());
+    }
+
+    private void removeFromTree(Long itemId, Long bookingId) {
+        BookingIntervalTree tree = treesByItemId.get(itemId);
+        if (tree != null) {
+            synchronized (tree) {
+                tree.remove(bookingId);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,203 @@
+package ru.practicum.shareit.booking.service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Interval tree of booking periods of one item.
+ * AVL tree ordered by period start, every node keeps the max period end of its subtree,
+ * so an overlap check descends a single path - O(log n).
+ * Periods are half-open: [start, end).
+ * A second set ordered by period end lets ended periods be dropped without a full scan.
+ * Not thread-safe, callers synchronize on the tree.
+ */
+class BookingIntervalTree {
+
+    private final Map<Long, Period> periodsByBookingId = new HashMap<>();
+
+    private final NavigableSet<Period> periodsByEnd = new TreeSet<>(Comparator.comparing(Period::end)
+            .thenComparing(Period::bookingId));
+
+    private Node root;
+
+    boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        Node node = root;
+        while (node != null) {
+            if (node.period.overlaps(start, end)) {
+                return true;
+            }
+
+            if (node.left != null && node.left.maxEnd.isAfter(start)) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+
+        return false;
+    }
+
+    void add(Long bookingId, LocalDateTime start, LocalDateTime end) {
+        remove(bookingId);
+
+        Period period = new Period(bookingId, start, end);
+        periodsByBookingId.put(bookingId, period);
+        periodsByEnd.add(period);
+        root = insert(root, period);
+    }
+
+    void remove(Long bookingId) {
+        Period period = periodsByBookingId.remove(bookingId);
+        if (period != null) {
+            periodsByEnd.remove(period);
+            root = delete(root, period);
+        }
+    }
+
+    /**
+     * Drops the periods that end at or before the given time
+     */
+    void removeEndedBy(LocalDateTime time) {
+        while (!periodsByEnd.isEmpty() && !periodsByEnd.first().end.isAfter(time)) {
+            remove(periodsByEnd.first().bookingId);
+        }
+    }
+
+    boolean contains(Long bookingId) {
+        return periodsByBookingId.containsKey(bookingId);
+    }
+
+    private static Node insert(Node node, Period period) {
+        if (node == null) {
+            return new Node(period);
+        }
+
+        if (period.compareTo(node.period) < 0) {
+            node.left = insert(node.left, period);
+        } else {
+            node.right = insert(node.right, period);
+        }
+
+        return balance(node);
+    }
+
+    private static Node delete(Node node, Period period) {
+        if (node == null) {
+            return null;
+        }
+
+        int compare = period.compareTo(node.period);
+        if (compare < 0) {
+            node.left = delete(node.left, period);
+        } else if (compare > 0) {
+            node.right = delete(node.right, period);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.period = successor.period;
+            node.right = delete(node.right, successor.period);
+        }
+
+        return balance(node);
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+
+        LocalDateTime maxEnd = node.period.end;
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+
+        private Period period;
+        private LocalDateTime maxEnd;
+        private int height;
+        private Node left;
+        private Node right;
+
+        private Node(Period period) {
+            this.period = period;
+            this.maxEnd = period.end;
+            this.height = 1;
+        }
+
+    }
+
+    private record Period(Long bookingId, LocalDateTime start, LocalDateTime end) implements Comparable<Period> {
+
+        private boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+            return start.isBefore(otherEnd) && otherStart.isBefore(end);
+        }
+
+        @Override
+        public int compareTo(Period other) {
+            int compare = start.compareTo(other.start);
+            return compare != 0 ? compare : bookingId.compareTo(other.bookingId);
+        }
+
+    }
+
+}
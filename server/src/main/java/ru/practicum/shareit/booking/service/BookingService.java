@@ -1,18 +1,29 @@
 package ru.practicum.shareit.booking.service;
 
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusResultDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
+
 import java.util.List;
 
 public interface BookingService {
 
     BookingDto add(BookingDto bookingDto, Long userId);
 
+    List<BookingDto> addAll(List<BookingDto> bookingDtos, Long userId);
+
     BookingDto updateStatus(Long bookingId, Long userId, boolean approved);
 
+    List<BookingStatusResultDto> updateStatuses(List<BookingStatusUpdateDto> updates, Long userId);
+
     BookingDto getById(Long userId, Long bookingId);
 
     List<BookingDto> getAllByBookerId(long userId, String state, Integer from, Integer size);
 
     List<BookingDto> getAllByOwnerId(long userId, String state, Integer from, Integer size);
 
+    List<BookingDto> getAllByBookerIdAfterCursor(long userId, String state, String cursor, Integer size);
+
+    List<BookingDto> getAllByOwnerIdAfterCursor(long userId, String state, String cursor, Integer size);
+
 }
@@ -9,11 +9,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusResultDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
 import ru.practicum.shareit.exception.EntityNotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.ItemRepository;
@@ -23,60 +27,163 @@ import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @AllArgsConstructor
 @Service
 public class BookingServiceImpl implements BookingService {
 
+    private static final String CHANGED_CONCURRENTLY_ERROR = "Бронирование изменено другим запросом";
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
+
+    private final Sort bookingsSort = Sort.by(Sort.Direction.DESC, "startDate", "id");
 
     @Override
     @Transactional
     public BookingDto add(BookingDto bookingDto, Long userId) {
         User user = findUserById(userId);
         Item item = findItemById(bookingDto.getItemId());
-        bookingDto.setBookerId(userId);
 
-        validateItemAvailability(item);
-        validateStartDateBeforeEndDate(BookingMapper.toEntity(bookingDto, item, user));
-        validateStartDateNotInPast(bookingDto);
+        Booking booking = toNewBooking(bookingDto, item, user, userId);
+        validateNoOverlap(booking);
 
-        if (item.getOwner().getId().equals(userId)) {
-            throw new ValidationException("Автор не может добавить бронирование на свою вещь", HttpStatus.NOT_FOUND);
+        Booking savedBooking = bookingRepository.save(booking);
+        if (!bookingIntervalIndex.add(savedBooking)) {
+            throw overlapException();
         }
 
-        Booking booking = BookingMapper.toEntity(bookingDto, item, user);
-        booking.setStatus(BookingStatus.WAITING);
+        return BookingMapper.toDto(savedBooking);
+    }
 
-        return BookingMapper.toDto(bookingRepository.save(booking));
+    @Override
+    @Transactional
+    public List<BookingDto> addAll(List<BookingDto> bookingDtos, Long userId) {
+        User user = findUserById(userId);
+
+        Set<Long> itemIds = bookingDtos.stream()
+                .map(BookingDto::getItemId)
+                .collect(Collectors.toSet());
+        Map<Long, Item> itemsById = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<Booking> bookings = bookingDtos.stream()
+                .map(bookingDto -> toNewBooking(bookingDto, getItem(itemsById, bookingDto.getItemId()), user, userId))
+                .collect(Collectors.toList());
+        validateNoOverlap(bookings);
+
+        List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+        savedBookings.forEach(booking -> {
+            if (!bookingIntervalIndex.add(booking)) {
+                throw overlapException();
+            }
+        });
+
+        log.info("Добавлено бронирований: {}", savedBookings.size());
+        return BookingMapper.toDto(savedBookings);
     }
 
     @Override
-    @Transactional()
+    @Transactional
     public BookingDto updateStatus(Long bookingId, Long userId, boolean approved) {
-        findUserById(userId);
+        BookingStatus status = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
 
-        Booking booking = getBookingById(bookingId);
+        int updated = bookingRepository.updateStatusByOwner(bookingId, userId, BookingStatus.WAITING, status);
+        if (updated == 0) {
+            throw statusUpdateException(bookingId, userId);
+        }
 
-        validateOwnerAccess(userId, booking.getItem().getOwner().getId());
-        validateItemAvailability(booking.getItem());
-        validateStartDateBeforeEndDate(booking);
+        BookingView booking = bookingRepository.findViewById(bookingId)
+                .orElseThrow(() -> new EntityNotFoundException("Бронирование не найдено: " + bookingId));
+        updateIntervalIndex(booking);
 
-        if (booking.getStatus().equals(BookingStatus.APPROVED)) {
-            throw new ValidationException("Уже подтвержден владельцем", HttpStatus.BAD_REQUEST);
-        }
+        return BookingMapper.toDto(booking);
+    }
 
-        if (approved) {
-            booking.setStatus(BookingStatus.APPROVED);
-        } else {
-            booking.setStatus(BookingStatus.REJECTED);
+    /**
+     * Decides on every booking separately and reports the ones it couldn't update. The bookings are updated with
+     * one statement per target status, so an approval rejected by the overlap constraint of the database
+     * rolls back the whole call with a single conflict
+     */
+    @Override
+    @Transactional
+    public List<BookingStatusResultDto> updateStatuses(List<BookingStatusUpdateDto> updates, Long userId) {
+        findUserById(userId);
+
+        Map<Long, BookingStatus> statusesByBookingId = new LinkedHashMap<>();
+        updates.forEach(update -> {
+            BookingStatus status = update.getApproved() ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+            if (statusesByBookingId.putIfAbsent(update.getBookingId(), status) != null) {
+                throw new ValidationException("Бронирование указано несколько раз: " + update.getBookingId(),
+                        HttpStatus.BAD_REQUEST);
+            }
+        });
+        if (statusesByBookingId.isEmpty()) {
+            return List.of();
         }
 
-        return BookingMapper.toDto(bookingRepository.save(booking));
+        Map<Long, Booking> bookingsById = bookingRepository.findAllWithItemByIdIn(statusesByBookingId.keySet())
+                .stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        Map<Long, String> errorsByBookingId = new HashMap<>();
+        Map<BookingStatus, List<Long>> bookingIdsByStatus = new EnumMap<>(BookingStatus.class);
+        statusesByBookingId.forEach((bookingId, status) -> {
+            String error = getStatusUpdateError(bookingsById.get(bookingId), bookingId, userId);
+            if (error != null) {
+                errorsByBookingId.put(bookingId, error);
+            } else {
+                bookingIdsByStatus.computeIfAbsent(status, key -> new ArrayList<>()).add(bookingId);
+            }
+        });
+
+        bookingIdsByStatus.forEach((status, bookingIds) -> {
+            int updated = bookingRepository.updateStatusesByOwner(bookingIds, userId, BookingStatus.WAITING, status);
+            if (updated < bookingIds.size()) {
+                // the bookings are locked, so only a change of their items could keep the update from applying
+                Map<Long, Booking> currentBookingsById = bookingRepository.findAllWithItemByIdIn(bookingIds).stream()
+                        .collect(Collectors.toMap(Booking::getId, Function.identity()));
+                bookingIds.forEach(bookingId -> {
+                    Booking booking = currentBookingsById.get(bookingId);
+                    if (booking == null || booking.getStatus() != status) {
+                        bookingsById.put(bookingId, booking);
+                        errorsByBookingId.put(bookingId, getSkippedStatusUpdateError(booking, bookingId, userId));
+                    }
+                });
+            }
+        });
+
+        List<BookingStatusResultDto> results = new ArrayList<>();
+        statusesByBookingId.forEach((bookingId, status) -> {
+            Booking booking = bookingsById.get(bookingId);
+            String error = errorsByBookingId.get(bookingId);
+            if (error == null) {
+                booking.setStatus(status);
+                updateIntervalIndex(booking);
+            }
+
+            results.add(BookingStatusResultDto.builder()
+                    .bookingId(bookingId)
+                    .status(booking != null ? booking.getStatus() : null)
+                    .error(error)
+                    .build());
+        });
+
+        log.info("Обновлены статусы бронирований: {} из {}", statusesByBookingId.size() - errorsByBookingId.size(),
+                statusesByBookingId.size());
+        return results;
     }
 
     @Override
@@ -97,11 +204,10 @@ public class BookingServiceImpl implements BookingService {
         findUserById(userId);
         validatePageable(from, size);
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "startDate");
-        Pageable pageable = PageRequest.of(from > 0 ? from / size : 0, size, sort);
-        List<Booking> bookings = getBookingsByBookerAndState(bookingState, userId, pageable);
+        Pageable pageable = PageRequest.of(from > 0 ? from / size : 0, size, bookingsSort);
+        List<BookingView> bookings = getBookingsByBookerAndState(bookingState, userId, pageable);
 
-        return BookingMapper.toDto(bookings);
+        return BookingMapper.toDtoFromViews(bookings);
     }
 
     @Override
@@ -111,21 +217,48 @@ public class BookingServiceImpl implements BookingService {
         findUserById(userId);
         validatePageable(from, size);
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "startDate");
-        Pageable pageable = PageRequest.of(from > 0 ? from / size : 0, size, sort);
-        List<Booking> bookings = getBookingsByOwnerAndState(bookingState, userId, pageable);
+        Pageable pageable = PageRequest.of(from > 0 ? from / size : 0, size, bookingsSort);
+        List<BookingView> bookings = getBookingsByOwnerAndState(bookingState, userId, pageable);
 
-        return BookingMapper.toDto(bookings);
+        return BookingMapper.toDtoFromViews(bookings);
     }
 
-    private List<Booking> getBookingsByBookerAndState(BookingState state, long userId, Pageable pageable) {
-        List<Booking> bookings = new ArrayList<>();
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingDto> getAllByBookerIdAfterCursor(long userId, String state, String cursor, Integer size) {
+        BookingState bookingState = getBookingState(state);
+        findUserById(userId);
+        validatePageable(0, size);
+
+        BookingCursor bookingCursor = BookingCursor.decode(cursor);
+        List<BookingView> bookings = getBookingsByBookerAndStateAfterCursor(bookingState, userId, bookingCursor,
+                PageRequest.ofSize(size));
+
+        return BookingMapper.toDtoFromViews(bookings);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingDto> getAllByOwnerIdAfterCursor(long userId, String state, String cursor, Integer size) {
+        BookingState bookingState = getBookingState(state);
+        findUserById(userId);
+        validatePageable(0, size);
+
+        BookingCursor bookingCursor = BookingCursor.decode(cursor);
+        List<BookingView> bookings = getBookingsByOwnerAndStateAfterCursor(bookingState, userId, bookingCursor,
+                PageRequest.ofSize(size));
+
+        return BookingMapper.toDtoFromViews(bookings);
+    }
+
+    private List<BookingView> getBookingsByBookerAndState(BookingState state, long userId, Pageable pageable) {
+        List<BookingView> bookings = new ArrayList<>();
         switch (state) {
             case ALL:
                 bookings = bookingRepository.findAllByBookerId(userId, pageable);
                 break;
             case CURRENT:
-                bookings = bookingRepository.findByBookerIdCurrent(userId, LocalDateTime.now());
+                bookings = bookingRepository.findByBookerIdCurrent(userId, LocalDateTime.now(), pageable);
                 break;
             case PAST:
                 bookings = bookingRepository.findByBookerIdAndEndDateIsBefore(userId, LocalDateTime.now(), pageable);
@@ -143,14 +276,14 @@ public class BookingServiceImpl implements BookingService {
         return bookings;
     }
 
-    private List<Booking> getBookingsByOwnerAndState(BookingState state, long userId, Pageable pageable) {
-        List<Booking> bookings = new ArrayList<>();
+    private List<BookingView> getBookingsByOwnerAndState(BookingState state, long userId, Pageable pageable) {
+        List<BookingView> bookings = new ArrayList<>();
         switch (state) {
             case ALL:
                 bookings = bookingRepository.findAllByItemOwner(userId, pageable);
                 break;
             case CURRENT:
-                bookings = bookingRepository.findCurrentBookingsByOwner(userId, LocalDateTime.now());
+                bookings = bookingRepository.findCurrentBookingsByOwner(userId, LocalDateTime.now(), pageable);
                 break;
             case PAST:
                 bookings = bookingRepository.findByItemOwnerIdAndEndDateIsBefore(userId, LocalDateTime.now(), pageable);
@@ -168,6 +301,74 @@ public class BookingServiceImpl implements BookingService {
         return bookings;
     }
 
+    private List<BookingView> getBookingsByBookerAndStateAfterCursor(BookingState state, long userId,
+                                                                     BookingCursor cursor, Pageable pageable) {
+        LocalDateTime cursorStart = cursor.getStartDate();
+        Long cursorId = cursor.getId();
+
+        List<BookingView> bookings = new ArrayList<>();
+        switch (state) {
+            case ALL:
+                bookings = bookingRepository.findAllByBookerIdAfterCursor(userId, cursorStart, cursorId, pageable);
+                break;
+            case CURRENT:
+                bookings = bookingRepository.findCurrentByBookerIdAfterCursor(userId, LocalDateTime.now(),
+                        cursorStart, cursorId, pageable);
+                break;
+            case PAST:
+                bookings = bookingRepository.findPastByBookerIdAfterCursor(userId, LocalDateTime.now(),
+                        cursorStart, cursorId, pageable);
+                break;
+            case FUTURE:
+                bookings = bookingRepository.findFutureByBookerIdAfterCursor(userId, LocalDateTime.now(),
+                        cursorStart, cursorId, pageable);
+                break;
+            case WAITING:
+                bookings = bookingRepository.findByBookerIdAndStatusAfterCursor(userId, BookingStatus.WAITING,
+                        cursorStart, cursorId, pageable);
+                break;
+            case REJECTED:
+                bookings = bookingRepository.findByBookerIdAndStatusAfterCursor(userId, BookingStatus.REJECTED,
+                        cursorStart, cursorId, pageable);
+                break;
+        }
+        return bookings;
+    }
+
+    private List<BookingView> getBookingsByOwnerAndStateAfterCursor(BookingState state, long userId,
+                                                                    BookingCursor cursor, Pageable pageable) {
+        LocalDateTime cursorStart = cursor.getStartDate();
+        Long cursorId = cursor.getId();
+
+        List<BookingView> bookings = new ArrayList<>();
+        switch (state) {
+            case ALL:
+                bookings = bookingRepository.findAllByItemOwnerAfterCursor(userId, cursorStart, cursorId, pageable);
+                break;
+            case CURRENT:
+                bookings = bookingRepository.findCurrentByItemOwnerAfterCursor(userId, LocalDateTime.now(),
+                        cursorStart, cursorId, pageable);
+                break;
+            case PAST:
+                bookings = bookingRepository.findPastByItemOwnerAfterCursor(userId, LocalDateTime.now(),
+                        cursorStart, cursorId, pageable);
+                break;
+            case FUTURE:
+                bookings = bookingRepository.findFutureByItemOwnerAfterCursor(userId, LocalDateTime.now(),
+                        cursorStart, cursorId, pageable);
+                break;
+            case WAITING:
+                bookings = bookingRepository.findByItemOwnerAndStatusAfterCursor(userId, BookingStatus.WAITING,
+                        cursorStart, cursorId, pageable);
+                break;
+            case REJECTED:
+                bookings = bookingRepository.findByItemOwnerAndStatusAfterCursor(userId, BookingStatus.REJECTED,
+                        cursorStart, cursorId, pageable);
+                break;
+        }
+        return bookings;
+    }
+
     private User findUserById(long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> {
@@ -195,6 +396,33 @@ public class BookingServiceImpl implements BookingService {
                 });
     }
 
+    private static Item getItem(Map<Long, Item> itemsById, Long itemId) {
+        Item item = itemsById.get(itemId);
+        if (item == null) {
+            String errorText = "Вещь не найдена: " + itemId;
+            log.error(errorText);
+            throw new EntityNotFoundException(errorText);
+        }
+
+        return item;
+    }
+
+    private static Booking toNewBooking(BookingDto bookingDto, Item item, User user, Long userId) {
+        bookingDto.setBookerId(userId);
+
+        validateItemAvailability(item);
+        validateStartDateBeforeEndDate(BookingMapper.toEntity(bookingDto, item, user));
+        validateStartDateNotInPast(bookingDto);
+
+        if (item.getOwner().getId().equals(userId)) {
+            throw new ValidationException("Автор не может добавить бронирование на свою вещь", HttpStatus.NOT_FOUND);
+        }
+
+        Booking booking = BookingMapper.toEntity(bookingDto, item, user);
+        booking.setStatus(BookingStatus.WAITING);
+        return booking;
+    }
+
     private static void validateItemAvailability(Item item) {
         if (!item.getAvailable()) {
             throw new ValidationException("Вещь не доступна для бронирования", HttpStatus.BAD_REQUEST);
@@ -218,6 +446,105 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    /**
+     * Explains why the conditional status update didn't touch the booking
+     */
+    private RuntimeException statusUpdateException(Long bookingId, Long userId) {
+        findUserById(userId);
+
+        Booking booking = getBookingById(bookingId);
+
+        validateOwnerAccess(userId, booking.getItem().getOwner().getId());
+        validateItemAvailability(booking.getItem());
+
+        if (booking.getStatus() == BookingStatus.WAITING) {
+            // its item was unavailable at the update and has been made available again since
+            log.error(CHANGED_CONCURRENTLY_ERROR + ": " + bookingId);
+            return new ValidationException(CHANGED_CONCURRENTLY_ERROR, HttpStatus.CONFLICT);
+        }
+
+        String errorText = getProcessedStatusError(booking.getStatus());
+        log.error(errorText + ": " + bookingId);
+        return new ValidationException(errorText, HttpStatus.BAD_REQUEST);
+    }
+
+    private static String getStatusUpdateError(Booking booking, Long bookingId, Long userId) {
+        if (booking == null) {
+            return "Бронирование не найдено: " + bookingId;
+        }
+        if (!booking.getItem().getOwner().getId().equals(userId)) {
+            return "Не является владельцем вещи";
+        }
+        if (!booking.getItem().getAvailable()) {
+            return "Вещь не доступна для бронирования";
+        }
+        if (booking.getStatus() != BookingStatus.WAITING) {
+            return getProcessedStatusError(booking.getStatus());
+        }
+
+        return null;
+    }
+
+    private static String getSkippedStatusUpdateError(Booking booking, Long bookingId, Long userId) {
+        String error = getStatusUpdateError(booking, bookingId, userId);
+        return error != null ? error : CHANGED_CONCURRENTLY_ERROR;
+    }
+
+    private static String getProcessedStatusError(BookingStatus status) {
+        return status == BookingStatus.APPROVED ? "Уже подтвержден владельцем" : "Уже отклонен владельцем";
+    }
+
+    private void updateIntervalIndex(Booking booking) {
+        if (booking.getStatus() == BookingStatus.APPROVED) {
+            if (!bookingIntervalIndex.add(booking)) {
+                throw overlapException();
+            }
+        } else {
+            bookingIntervalIndex.remove(booking);
+        }
+    }
+
+    private void updateIntervalIndex(BookingView booking) {
+        if (booking.getStatus() == BookingStatus.APPROVED) {
+            if (!bookingIntervalIndex.add(booking.getItemId(), booking.getId(), booking.getStartDate(),
+                    booking.getEndDate())) {
+                throw overlapException();
+            }
+        } else {
+            bookingIntervalIndex.remove(booking.getItemId(), booking.getId());
+        }
+    }
+
+    private void validateNoOverlap(Booking booking) {
+        if (bookingIntervalIndex.overlaps(booking.getItem().getId(), booking.getStartDate(), booking.getEndDate())) {
+            throw overlapException();
+        }
+    }
+
+    /**
+     * Checks new bookings against the index and against each other in one pass over them sorted by item and start
+     */
+    private void validateNoOverlap(List<Booking> bookings) {
+        List<Booking> sortedBookings = bookings.stream()
+                .sorted(Comparator.comparing((Booking booking) -> booking.getItem().getId())
+                        .thenComparing(Booking::getStartDate))
+                .toList();
+
+        Booking previous = null;
+        for (Booking booking : sortedBookings) {
+            if (previous != null && previous.getItem().getId().equals(booking.getItem().getId())
+                    && previous.getEndDate().isAfter(booking.getStartDate())) {
+                throw overlapException();
+            }
+            validateNoOverlap(booking);
+            previous = booking;
+        }
+    }
+
+    private static ValidationException overlapException() {
+        return new ValidationException("Вещь уже забронирована на эти даты", HttpStatus.CONFLICT);
+    }
+
     private static void validateOwnerAccess(Long userId, Long ownerId) {
         boolean isOwner = ownerId.equals(userId);
 
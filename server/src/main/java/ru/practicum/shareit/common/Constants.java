@@ -2,4 +2,5 @@ package ru.practicum.shareit.common;
 
 public class Constants {
     public static final String X_SHARER_USER_ID = "X-Sharer-User-Id";
+    public static final String X_NEXT_CURSOR = "X-Next-Cursor";
 }
@@ -0,0 +1,171 @@
+package ru.practicum.shareit.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded least-recently-used cache with versioned invalidation.
+ * Every key belongs to one of a fixed number of version stripes: evicting a key bumps its stripe,
+ * evicting by predicate bumps the global generation. A value loaded while its version changed is returned
+ * but not stored, so a load racing with an update can't put a stale value back.
+ * Hit, miss, put and eviction counts are published as {@code cache.*} metrics.
+ */
+public class LruCache<K, V> {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final int maxSize;
+
+    private final Map<K, V> values;
+
+    private final long[] versions = new long[VERSION_STRIPES];
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long evictions;
+
+    public LruCache(String name, int maxSize, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.values = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        new Metrics(this, name).bindTo(meterRegistry);
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        if (maxSize <= 0) {
+            return loader.get();
+        }
+
+        long loadVersion;
+        synchronized (this) {
+            V value = values.get(key);
+            if (value != null) {
+                hits++;
+                return value;
+            }
+            misses++;
+            loadVersion = version(key);
+        }
+
+        V value = loader.get();
+
+        synchronized (this) {
+            if (value != null && loadVersion == version(key)) {
+                values.put(key, value);
+                puts++;
+            }
+        }
+
+        return value;
+    }
+
+    public synchronized void evict(K key) {
+        versions[stripe(key)]++;
+        if (values.remove(key) != null) {
+            evictions++;
+        }
+    }
+
+    public synchronized void evictIf(Predicate<K> predicate) {
+        generation++;
+
+        Iterator<K> iterator = values.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (predicate.test(iterator.next())) {
+                iterator.remove();
+                evictions++;
+            }
+        }
+    }
+
+    public synchronized void evictValuesIf(Predicate<V> predicate) {
+        generation++;
+
+        Iterator<V> iterator = values.values().iterator();
+        while (iterator.hasNext()) {
+            if (predicate.test(iterator.next())) {
+                iterator.remove();
+                evictions++;
+            }
+        }
+    }
+
+    private long version(K key) {
+        return generation + versions[stripe(key)];
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), VERSION_STRIPES);
+    }
+
+    private static final class Metrics extends CacheMeterBinder<LruCache<?, ?>> {
+
+        private Metrics(LruCache<?, ?> cache, String name) {
+            super(cache, name, Tags.empty());
+        }
+
+        @Override
+        protected Long size() {
+            LruCache<?, ?> cache = getCache();
+            synchronized (cache) {
+                return (long) cache.values.size();
+            }
+        }
+
+        @Override
+        protected long hitCount() {
+            LruCache<?, ?> cache = getCache();
+            synchronized (cache) {
+                return cache.hits;
+            }
+        }
+
+        @Override
+        protected Long missCount() {
+            LruCache<?, ?> cache = getCache();
+            synchronized (cache) {
+                return cache.misses;
+            }
+        }
+
+        @Override
+        protected Long evictionCount() {
+            LruCache<?, ?> cache = getCache();
+            synchronized (cache) {
+                return cache.evictions;
+            }
+        }
+
+        @Override
+        protected long putCount() {
+            LruCache<?, ?> cache = getCache();
+            synchronized (cache) {
+                return cache.puts;
+            }
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.common;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Virtual-thread mode, enabled by {@code spring.threads.virtual.enabled=true}: Tomcat handles every request,
+ * including its transactional service calls, on a virtual thread. Database concurrency is then bounded
+ * by {@link ConnectionLimitingDataSource} instead of the size of the request thread pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(
+            @Value("${shareit.jdbc.max-concurrency:10}") int maxConcurrency,
+            @Value("${shareit.jdbc.acquire-timeout:30s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    return new ConnectionLimitingDataSource(dataSource, maxConcurrency, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        ConnectionLimitingDataSource limiter = DataSourceUnwrapper.unwrap(dataSource, ConnectionLimitingDataSource.class);
+        return registry -> {
+            if (limiter != null) {
+                limiter.bindTo(registry);
+            }
+        };
+    }
+
+}
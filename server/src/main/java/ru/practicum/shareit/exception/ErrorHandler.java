@@ -1,6 +1,8 @@
 package ru.practicum.shareit.exception;
 
+import lombok.extern.slf4j.Slf4j;
 import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -11,9 +13,12 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @RestControllerAdvice("ru.practicum.shareit")
 public class ErrorHandler {
 
+    private static final String BOOKINGS_NO_OVERLAP_CONSTRAINT = "bookings_approved_no_overlap";
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValid(MethodArgumentNotValidException e) {
         Map<String, String> errors = new HashMap<>();
@@ -26,6 +31,16 @@ public class ErrorHandler {
         return new ResponseEntity<>(new ErrorResponse(errors.toString()), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(jakarta.validation.ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleMethodConstraintViolation(
+            jakarta.validation.ConstraintViolationException e) {
+        Map<String, String> errors = new HashMap<>();
+        e.getConstraintViolations().forEach(violation ->
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+
+        return new ResponseEntity<>(new ErrorResponse(errors.toString()), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(ValidationException e) {
         ErrorResponse errorResponse = new ErrorResponse(e.getMessage());
@@ -50,6 +65,30 @@ public class ErrorHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        if (isBookingOverlap(e)) {
+            return new ResponseEntity<>(new ErrorResponse("Вещь уже забронирована на эти даты"), HttpStatus.CONFLICT);
+        }
+        if (e.getCause() instanceof ConstraintViolationException violation) {
+            return handleConstraintViolationException(violation);
+        }
+
+        // подробности нарушения (таблицы, колонки, SQL) остаются в логе и не уходят клиенту
+        log.error("Нарушение целостности данных", e);
+        return new ResponseEntity<>(new ErrorResponse("Нарушение целостности данных"), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private static boolean isBookingOverlap(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation
+                && BOOKINGS_NO_OVERLAP_CONSTRAINT.equals(violation.getConstraintName())) {
+            return true;
+        }
+
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains("\"" + BOOKINGS_NO_OVERLAP_CONSTRAINT + "\"");
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
         ErrorResponse errorResponse = new ErrorResponse(e.getMessage());
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemForOwnerDto;
+import ru.practicum.shareit.item.dto.ItemSuggestionDto;
 import ru.practicum.shareit.item.service.ItemService;
 
 import jakarta.validation.Valid;
@@ -55,9 +56,17 @@ public class ItemController {
     @GetMapping("/search")
     public ResponseEntity<List<ItemDto>> getItemsByText(@RequestParam String text,
                                                         @RequestParam(defaultValue = "0") int from,
-                                                        @RequestParam(defaultValue = "10") int size) {
+                                                        @RequestParam(defaultValue = "10") int size,
+                                                        @RequestParam(defaultValue = "false") boolean byRelevance) {
         log.info("Получить вещи по тексту в названии и описании");
-        return ResponseEntity.ok(itemService.getItemsByText(text, from, size));
+        return ResponseEntity.ok(itemService.getItemsByText(text, from, size, byRelevance));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ItemSuggestionDto>> getSuggestions(@RequestParam String prefix,
+                                                                  @RequestParam(defaultValue = "10") int size) {
+        log.info("Получить подсказки названий вещей по префиксу");
+        return ResponseEntity.ok(itemService.getSuggestions(prefix, size));
     }
 
     @PostMapping("/{itemId}/comment")
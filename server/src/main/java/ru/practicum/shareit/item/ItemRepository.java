@@ -4,8 +4,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
@@ -18,6 +20,31 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             " and i.available = true")
     List<Item> findByText(String text, Pageable pageable);
 
+    @Query(" select i from Item i " +
+            "where (upper(i.name) like upper(concat('%', ?1, '%')) " +
+            " or upper(i.description) like upper(concat('%', ?1, '%')))" +
+            " and i.available = true" +
+            " order by case when upper(i.name) like upper(concat('%', ?1, '%')) then 0 else 1 end, i.id")
+    List<Item> findByTextOrderByNameMatch(String text, Pageable pageable);
+
+    @Query(value = "SELECT * FROM items i " +
+            "WHERE i.search_vector @@ TO_TSQUERY('simple', :query) " +
+            "AND i.is_available = true " +
+            "ORDER BY i.id",
+            nativeQuery = true)
+    List<Item> findByFullText(@Param("query") String query, Pageable pageable);
+
+    @Query(value = "SELECT * FROM items i " +
+            "WHERE i.search_vector @@ TO_TSQUERY('simple', :query) " +
+            "AND i.is_available = true " +
+            "ORDER BY TS_RANK(i.search_vector, TO_TSQUERY('simple', :query), 1) DESC, i.id",
+            nativeQuery = true)
+    List<Item> findByFullTextOrderByRank(@Param("query") String query, Pageable pageable);
+
     List<Item> findAllByRequestId(Long requestId, Sort sort);
 
+    List<Item> findAllByRequestIdIn(Collection<Long> requestIds, Sort sort);
+
+    List<Item> findAllByAvailableTrue();
+
 }
\ No newline at end of file
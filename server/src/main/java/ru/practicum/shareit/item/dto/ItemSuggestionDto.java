@@ -0,0 +1,19 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * DTO for an item name suggested while the user types a search query
+ */
+@Data
+@Builder
+public class ItemSuggestionDto implements Serializable {
+
+    private Long id;
+
+    private String name;
+
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Item search in the database.
+ * By default it matches a substring of the name or description with LIKE, served on postgres by trigram indexes.
+ * With {@code shareit.item-search.full-text} it uses the postgres full-text index instead, which only matches
+ * word prefixes: "дрел" finds "Дрель", but "рель" doesn't.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.item-search.in-memory", havingValue = "false", matchIfMissing = true)
+public class DatabaseItemSearch implements ItemSearch {
+
+    private final ItemRepository itemRepository;
+
+    private final boolean fullText;
+
+    public DatabaseItemSearch(ItemRepository itemRepository,
+                              @Value("${shareit.item-search.full-text:false}") boolean fullText) {
+        this.itemRepository = itemRepository;
+        this.fullText = fullText;
+        log.info("Поиск вещей: {}", fullText ? "полнотекстовый индекс" : "LIKE");
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable, boolean byRelevance) {
+        if (!fullText) {
+            return byRelevance
+                    ? itemRepository.findByTextOrderByNameMatch(text, pageable)
+                    : itemRepository.findByText(text, pageable);
+        }
+
+        String query = toPrefixQuery(text);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return byRelevance
+                ? itemRepository.findByFullTextOrderByRank(query, page)
+                : itemRepository.findByFullText(query, page);
+    }
+
+    /**
+     * Builds a tsquery matching items that contain words starting with every word of the text,
+     * e.g. {@code "Дрель акку"} - {@code "дрель:* & акку:*"}. Only letters and digits are kept.
+     */
+    static String toPrefixQuery(String text) {
+        return SearchTokenizer.tokenize(text).stream()
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.TransactionCallbacks;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Item search in an in-memory inverted index of available items.
+ * The index is built before the web server starts taking requests and kept current by {@link #index(Item)} after item changes are committed,
+ * the database is only queried to load the items of the requested page.
+ * Enabled with {@code shareit.item-search.in-memory=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.item-search.in-memory", havingValue = "true")
+@RequiredArgsConstructor
+public class InMemoryItemSearch implements ItemSearch, SmartInitializingSingleton {
+
+    private final ItemRepository itemRepository;
+
+    private final ItemSearchIndex searchIndex = new ItemSearchIndex();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Item> items = itemRepository.findAllByAvailableTrue();
+
+        lock.writeLock().lock();
+        try {
+            items.forEach(item -> searchIndex.put(item.getId(), item.getName(), item.getDescription()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Индекс поиска вещей построен: {} вещей", items.size());
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable, boolean byRelevance) {
+        List<String> queryTokens = SearchTokenizer.tokenize(text);
+
+        List<Long> pageIds;
+        lock.readLock().lock();
+        try {
+            long[] ids = byRelevance
+                    ? searchIndex.findRanked(queryTokens, (int) Math.min(pageable.getOffset() + pageable.getPageSize(),
+                            Integer.MAX_VALUE))
+                    : searchIndex.find(queryTokens);
+            pageIds = getPage(ids, pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (pageIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Item> items = itemRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        return pageIds.stream()
+                .map(items::get)
+                .filter(item -> item != null && Boolean.TRUE.equals(item.getAvailable()))
+                .toList();
+    }
+
+    @Override
+    public void index(Item item) {
+        Long itemId = item.getId();
+        String name = item.getName();
+        String description = item.getDescription();
+        boolean available = Boolean.TRUE.equals(item.getAvailable());
+
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                if (available) {
+                    searchIndex.put(itemId, name, description);
+                } else {
+                    searchIndex.remove(itemId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private static List<Long> getPage(long[] ids, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+
+        List<Long> page = new ArrayList<>(to - from);
+        Arrays.stream(ids, from, to).forEach(page::add);
+        return page;
+    }
+
+}
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.item.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.LruCache;
+import ru.practicum.shareit.common.TransactionCallbacks;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemForOwnerDto;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache of the part of an item page that is the same for every viewer:
+ * item fields and comments. Last and next bookings depend on the viewer and are not cached.
+ * Entries are immutable, every {@link #get} builds new DTOs from them.
+ * Metrics are published with tag {@code cache=itemDetails}.
+ */
+@Component
+public class ItemDetailsCache {
+
+    private final LruCache<Long, ItemDetails> details;
+
+    public ItemDetailsCache(@Value("${shareit.item-details.cache-size:10000}") int maxSize,
+                            MeterRegistry meterRegistry) {
+        this.details = new LruCache<>("itemDetails", maxSize, meterRegistry);
+    }
+
+    /**
+     * @return a new DTO without bookings, filled by the loader on a cache miss
+     */
+    public ItemForOwnerDto get(Long itemId, Supplier<ItemForOwnerDto> loader) {
+        return details.get(itemId, () -> ItemDetails.of(loader.get())).toDto();
+    }
+
+    /**
+     * Evicts the item now and once more after commit, so details loaded before the commit don't survive it
+     */
+    public void evict(Long itemId) {
+        details.evict(itemId);
+        TransactionCallbacks.afterCommit(() -> details.evict(itemId));
+    }
+
+    /**
+     * Evicts the items commented by the author, e.g. when the author is renamed
+     */
+    public void evictCommentedBy(String authorName) {
+        details.evictValuesIf(item -> item.isCommentedBy(authorName));
+        TransactionCallbacks.afterCommit(() -> details.evictValuesIf(item -> item.isCommentedBy(authorName)));
+    }
+
+    private record ItemDetails(Long id, String name, String description, Boolean available, Long ownerId,
+                               Long requestId, List<CommentDetails> comments) {
+
+        private static ItemDetails of(ItemForOwnerDto itemDto) {
+            return new ItemDetails(itemDto.getId(), itemDto.getName(), itemDto.getDescription(),
+                    itemDto.getAvailable(), itemDto.getOwnerId(), itemDto.getRequestId(),
+                    itemDto.getComments().stream()
+                            .map(CommentDetails::of)
+                            .toList());
+        }
+
+        private boolean isCommentedBy(String authorName) {
+            return comments.stream().anyMatch(comment -> Objects.equals(comment.authorName(), authorName));
+        }
+
+        private ItemForOwnerDto toDto() {
+            return ItemForOwnerDto.builder()
+                    .id(id)
+                    .name(name)
+                    .description(description)
+                    .available(available)
+                    .ownerId(ownerId)
+                    .requestId(requestId)
+                    .comments(comments.stream()
+                            .map(CommentDetails::toDto)
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+
+    }
+
+    private record CommentDetails(Long id, Long itemId, String authorName, String createdDate, String text) {
+
+        private static CommentDetails of(CommentDto commentDto) {
+            return new CommentDetails(commentDto.getId(), commentDto.getItemId(), commentDto.getAuthorName(),
+                    commentDto.getCreatedDate(), commentDto.getText());
+        }
+
+        private CommentDto toDto() {
+            return CommentDto.builder()
+                    .id(id)
+                    .itemId(itemId)
+                    .authorName(authorName)
+                    .createdDate(createdDate)
+                    .text(text)
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,180 @@
+package ru.practicum.shareit.item.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact (radix) trie of item names: every edge holds a whole run of characters,
+ * so a lookup walks at most one node per distinct branching point of the prefix.
+ * Names are matched case-insensitively, matches come in alphabetical order, equal names by item id.
+ * Not thread-safe, callers synchronize access.
+ */
+class ItemNameTrie {
+
+    private final Node root = new Node("");
+
+    private final Map<Long, String> keysById = new HashMap<>();
+
+    void put(Long itemId, String name) {
+        remove(itemId);
+
+        String key = name.toLowerCase(Locale.ROOT);
+        keysById.put(itemId, key);
+        insert(root, key, itemId, name);
+    }
+
+    void remove(Long itemId) {
+        String key = keysById.remove(itemId);
+        if (key == null) {
+            return;
+        }
+
+        if (key.isEmpty()) {
+            root.names.remove(itemId);
+        } else {
+            delete(root, key, itemId);
+        }
+    }
+
+    int size() {
+        return keysById.size();
+    }
+
+    /**
+     * @return up to {@code limit} names starting with the prefix
+     */
+    List<Match> find(String prefix, int limit) {
+        List<Match> matches = new ArrayList<>();
+        if (limit <= 0) {
+            return matches;
+        }
+
+        String key = prefix.toLowerCase(Locale.ROOT);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.children.get(key.charAt(position));
+            if (child == null) {
+                return matches;
+            }
+
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length() && position + common < key.length()) {
+                return matches;
+            }
+
+            position += common;
+            node = child;
+        }
+
+        collect(node, matches, limit);
+        return matches;
+    }
+
+    private static void insert(Node node, String key, Long itemId, String name) {
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.children.get(key.charAt(position));
+            if (child == null) {
+                child = new Node(key.substring(position));
+                node.children.put(child.firstChar(), child);
+                node = child;
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+
+            position += common;
+            node = child;
+        }
+
+        node.names.put(itemId, name);
+    }
+
+    /**
+     * Splits the edge to the child after {@code length} characters
+     *
+     * @return the new node in the middle of the edge
+     */
+    private static Node split(Node parent, Node child, int length) {
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.firstChar(), child);
+        parent.children.put(middle.firstChar(), middle);
+        return middle;
+    }
+
+    private static void delete(Node parent, String key, Long itemId) {
+        Node child = parent.children.get(key.charAt(0));
+        if (child == null || !key.startsWith(child.label)) {
+            return;
+        }
+
+        String rest = key.substring(child.label.length());
+        if (rest.isEmpty()) {
+            child.names.remove(itemId);
+        } else {
+            delete(child, rest, itemId);
+        }
+
+        if (child.names.isEmpty() && child.children.isEmpty()) {
+            parent.children.remove(child.firstChar());
+        } else if (child.names.isEmpty() && child.children.size() == 1) {
+            Node grandchild = child.children.firstEntry().getValue();
+            grandchild.label = child.label + grandchild.label;
+            parent.children.put(grandchild.firstChar(), grandchild);
+        }
+    }
+
+    private static void collect(Node node, List<Match> matches, int limit) {
+        for (Map.Entry<Long, String> entry : node.names.entrySet()) {
+            if (matches.size() == limit) {
+                return;
+            }
+            matches.add(new Match(entry.getKey(), entry.getValue()));
+        }
+
+        for (Node child : node.children.values()) {
+            if (matches.size() == limit) {
+                return;
+            }
+            collect(child, matches, limit);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    record Match(Long itemId, String name) {
+    }
+
+    private static final class Node {
+
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final TreeMap<Long, String> names = new TreeMap<>();
+        private String label;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private char firstChar() {
+            return label.charAt(0);
+        }
+
+    }
+
+}
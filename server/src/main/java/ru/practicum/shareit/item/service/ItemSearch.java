@@ -0,0 +1,24 @@
+package ru.practicum.shareit.item.service;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+/**
+ * Search of available items by text in name and description
+ */
+public interface ItemSearch {
+
+    /**
+     * @param byRelevance order the page by relevance instead of item id
+     */
+    List<Item> search(String text, Pageable pageable, boolean byRelevance);
+
+    /**
+     * Called after the item is created or changed
+     */
+    default void index(Item item) {
+    }
+
+}
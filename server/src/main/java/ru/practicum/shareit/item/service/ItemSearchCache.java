@@ -0,0 +1,72 @@
+package ru.practicum.shareit.item.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.LruCache;
+import ru.practicum.shareit.common.TransactionCallbacks;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of item search pages keyed by normalized text and page.
+ * A change of an item evicts only the queries its old or new name/description can match.
+ * Hit, miss and eviction counts are published as {@code cache.*} metrics with tag {@code cache=itemSearch}.
+ */
+@Component
+public class ItemSearchCache {
+
+    private final LruCache<Key, List<ItemDto>> pages;
+
+    public ItemSearchCache(@Value("${shareit.item-search.cache-size:1000}") int maxSize, MeterRegistry meterRegistry) {
+        this.pages = new LruCache<>("itemSearch", maxSize, meterRegistry);
+    }
+
+    public List<ItemDto> get(String text, int from, int size, boolean byRelevance, Supplier<List<ItemDto>> loader) {
+        return pages.get(new Key(normalize(text), from, size, byRelevance), () -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Evicts queries matching any of the texts now and once more after commit,
+     * so pages loaded before the commit don't survive it
+     */
+    public void evictMatching(List<String> texts) {
+        List<String> normalizedTexts = texts.stream()
+                .filter(text -> text != null && !text.isEmpty())
+                .map(ItemSearchCache::normalize)
+                .toList();
+
+        evict(normalizedTexts);
+        TransactionCallbacks.afterCommit(() -> evict(normalizedTexts));
+    }
+
+    private void evict(List<String> texts) {
+        pages.evictIf(key -> texts.stream().anyMatch(text -> mayMatch(key.text(), text)));
+    }
+
+    /**
+     * Matches if the text contains the query (LIKE search) or has words starting with every query word
+     * (full-text and in-memory search) - a superset of what any search implementation returns.
+     */
+    private static boolean mayMatch(String query, String text) {
+        if (text.contains(query)) {
+            return true;
+        }
+
+        List<String> queryTokens = SearchTokenizer.tokenize(query);
+        List<String> tokens = SearchTokenizer.tokenize(text);
+        return !queryTokens.isEmpty() && queryTokens.stream()
+                .allMatch(queryToken -> tokens.stream().anyMatch(token -> token.startsWith(queryToken)));
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(String text, int from, int size, boolean byRelevance) {
+    }
+
+}
@@ -0,0 +1,279 @@
+package ru.practicum.shareit.item.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index of item names and descriptions: token - sorted posting list of item ids.
+ * A query word matches every token it is a prefix of, the same way as the postgres prefix tsquery,
+ * so a search is a union of posting lists per query word and an intersection across the words.
+ * Ranked search scores matches with BM25F, words in the name weigh more than words in the description.
+ * Not thread-safe, callers synchronize access.
+ */
+class ItemSearchIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+
+    private static final Comparator<ScoredItem> RANKING = Comparator.comparingDouble(ScoredItem::score).reversed()
+            .thenComparingLong(ScoredItem::id);
+
+    private final NavigableMap<String, PostingList> postingsByToken = new TreeMap<>();
+
+    private final Map<Long, IndexedItem> itemsById = new HashMap<>();
+
+    private long totalNameLength;
+
+    private long totalDescriptionLength;
+
+    void put(Long itemId, String name, String description) {
+        remove(itemId);
+
+        IndexedItem item = new IndexedItem(SearchTokenizer.tokenize(name), SearchTokenizer.tokenize(description));
+        itemsById.put(itemId, item);
+        totalNameLength += item.nameTokens().size();
+        totalDescriptionLength += item.descriptionTokens().size();
+        item.distinctTokens().forEach(token -> postingsByToken
+                .computeIfAbsent(token, key -> new PostingList())
+                .add(itemId));
+    }
+
+    void remove(Long itemId) {
+        IndexedItem item = itemsById.remove(itemId);
+        if (item == null) {
+            return;
+        }
+
+        totalNameLength -= item.nameTokens().size();
+        totalDescriptionLength -= item.descriptionTokens().size();
+        for (String token : item.distinctTokens()) {
+            PostingList postingList = postingsByToken.get(token);
+            postingList.remove(itemId);
+            if (postingList.isEmpty()) {
+                postingsByToken.remove(token);
+            }
+        }
+    }
+
+    int size() {
+        return itemsById.size();
+    }
+
+    /**
+     * @return ascending ids of items containing words starting with every query word
+     */
+    long[] find(List<String> queryTokens) {
+        return intersect(findPerToken(queryTokens));
+    }
+
+    /**
+     * Selects the best {@code limit} matches with a bounded heap - O(n log limit) for n matches.
+     *
+     * @return ids of the best matches, by score descending and id ascending
+     */
+    long[] findRanked(List<String> queryTokens, int limit) {
+        List<long[]> matchesPerToken = findPerToken(queryTokens);
+        long[] ids = intersect(matchesPerToken);
+        if (ids.length == 0 || limit <= 0) {
+            return EMPTY;
+        }
+
+        double[] idf = new double[queryTokens.size()];
+        for (int i = 0; i < idf.length; i++) {
+            int documentFrequency = matchesPerToken.get(i).length;
+            idf[i] = Math.log(1 + (itemsById.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+
+        PriorityQueue<ScoredItem> heap = new PriorityQueue<>(Math.min(limit, ids.length), RANKING.reversed());
+        for (long id : ids) {
+            ScoredItem scoredItem = new ScoredItem(id, score(itemsById.get(id), queryTokens, idf));
+            if (heap.size() < limit) {
+                heap.add(scoredItem);
+            } else if (RANKING.compare(scoredItem, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(scoredItem);
+            }
+        }
+
+        long[] result = new long[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = heap.poll().id();
+        }
+        return result;
+    }
+
+    private List<long[]> findPerToken(List<String> queryTokens) {
+        List<long[]> matchesPerToken = new ArrayList<>(queryTokens.size());
+        for (String queryToken : queryTokens) {
+            long[] ids = EMPTY;
+            for (PostingList postingList : withPrefix(queryToken).values()) {
+                ids = union(ids, postingList.toArray());
+            }
+            matchesPerToken.add(ids);
+        }
+
+        return matchesPerToken;
+    }
+
+    private double score(IndexedItem item, List<String> queryTokens, double[] idf) {
+        double averageNameLength = Math.max(1.0, (double) totalNameLength / itemsById.size());
+        double averageDescriptionLength = Math.max(1.0, (double) totalDescriptionLength / itemsById.size());
+
+        double nameNorm = 1 - B + B * item.nameTokens().size() / averageNameLength;
+        double descriptionNorm = 1 - B + B * item.descriptionTokens().size() / averageDescriptionLength;
+
+        double score = 0;
+        for (int i = 0; i < queryTokens.size(); i++) {
+            String queryToken = queryTokens.get(i);
+            double frequency = NAME_WEIGHT * countPrefixed(item.nameTokens(), queryToken) / nameNorm
+                    + DESCRIPTION_WEIGHT * countPrefixed(item.descriptionTokens(), queryToken) / descriptionNorm;
+            score += idf[i] * frequency / (K1 + frequency);
+        }
+
+        return score;
+    }
+
+    private static int countPrefixed(List<String> tokens, String prefix) {
+        int count = 0;
+        for (String token : tokens) {
+            if (token.startsWith(prefix)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private NavigableMap<String, PostingList> withPrefix(String prefix) {
+        return postingsByToken.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private static long[] union(long[] first, long[] second) {
+        if (first.length == 0) {
+            return second;
+        }
+
+        long[] result = new long[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                result[size++] = first[i++];
+            } else if (first[i] > second[j]) {
+                result[size++] = second[j++];
+            } else {
+                result[size++] = first[i++];
+                j++;
+            }
+        }
+        while (i < first.length) {
+            result[size++] = first[i++];
+        }
+        while (j < second.length) {
+            result[size++] = second[j++];
+        }
+
+        return Arrays.copyOf(result, size);
+    }
+
+    private static long[] intersect(List<long[]> idsPerToken) {
+        if (idsPerToken.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] result = idsPerToken.get(0);
+        for (int i = 1; i < idsPerToken.size() && result.length > 0; i++) {
+            result = intersect(result, idsPerToken.get(i));
+        }
+        return result;
+    }
+
+    private static long[] intersect(long[] first, long[] second) {
+        long[] result = new long[Math.min(first.length, second.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[size++] = first[i++];
+                j++;
+            }
+        }
+
+        return Arrays.copyOf(result, size);
+    }
+
+    private record ScoredItem(long id, double score) {
+    }
+
+    private record IndexedItem(List<String> nameTokens, List<String> descriptionTokens) {
+
+        private Set<String> distinctTokens() {
+            Set<String> tokens = new LinkedHashSet<>(nameTokens);
+            tokens.addAll(descriptionTokens);
+            return tokens;
+        }
+
+    }
+
+    /**
+     * Ascending item ids without duplicates
+     */
+    private static final class PostingList {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        private void add(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+
+            index = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        private void remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+    }
+
+}
@@ -3,8 +3,11 @@ package ru.practicum.shareit.item.service;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemForOwnerDto;
+import ru.practicum.shareit.item.dto.ItemSuggestionDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ItemService {
 
@@ -16,10 +19,14 @@ public interface ItemService {
 
     List<ItemForOwnerDto> getItemsByOwnerId(Long userId, Integer from, Integer size);
 
-    List<ItemDto> getItemsByText(String text, Integer from, Integer size);
+    List<ItemDto> getItemsByText(String text, Integer from, Integer size, boolean byRelevance);
+
+    List<ItemSuggestionDto> getSuggestions(String prefix, Integer size);
 
     CommentDto addComment(CommentDto commentDto, Long userId, Long itemId);
 
     List<ItemDto> getItemsByRequestId(Long userId);
 
+    Map<Long, List<ItemDto>> getItemsByRequestIds(Collection<Long> requestIds);
+
 }
\ No newline at end of file
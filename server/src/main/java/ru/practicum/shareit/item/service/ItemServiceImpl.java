@@ -9,18 +9,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingRepository;
-import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
-import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
-import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.exception.AccessDeniedException;
 import ru.practicum.shareit.exception.EntityNotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.CommentRepository;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemForOwnerDto;
+import ru.practicum.shareit.item.dto.ItemSuggestionDto;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -34,15 +32,18 @@ import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @AllArgsConstructor
 public class ItemServiceImpl implements ItemService {
 
-    private final BookingService bookingService;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
@@ -50,6 +51,10 @@ public class ItemServiceImpl implements ItemService {
 
     private final Sort itemsSort = Sort.by(Sort.Direction.ASC, "id");
     private final RequestRepository requestRepository;
+    private final ItemSearch itemSearch;
+    private final ItemSuggestions itemSuggestions;
+    private final ItemSearchCache itemSearchCache;
+    private final ItemDetailsCache itemDetailsCache;
 
     @Override
     @Transactional()
@@ -60,7 +65,12 @@ public class ItemServiceImpl implements ItemService {
         Item item = ItemMapper.toEntity(itemDto, user, request);
         item.setOwner(user);
 
-        return ItemMapper.toDto(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        itemSearch.index(savedItem);
+        itemSuggestions.index(savedItem);
+        itemSearchCache.evictMatching(List.of(savedItem.getName(), savedItem.getDescription()));
+
+        return ItemMapper.toDto(savedItem);
     }
 
     @Override
@@ -74,6 +84,8 @@ public class ItemServiceImpl implements ItemService {
             throw new AccessDeniedException("Нет доступа к вещи!");
         }
 
+        List<String> previousTexts = List.of(existingItem.getName(), existingItem.getDescription());
+
         if (itemDto.getName() != null) {
             existingItem.setName(itemDto.getName());
         }
@@ -86,7 +98,14 @@ public class ItemServiceImpl implements ItemService {
             existingItem.setAvailable(itemDto.getAvailable());
         }
 
-        return ItemMapper.toDto(itemRepository.save(existingItem));
+        Item savedItem = itemRepository.save(existingItem);
+        itemSearch.index(savedItem);
+        itemSuggestions.index(savedItem);
+        itemSearchCache.evictMatching(Stream.concat(previousTexts.stream(),
+                Stream.of(savedItem.getName(), savedItem.getDescription())).toList());
+        itemDetailsCache.evict(savedItem.getId());
+
+        return ItemMapper.toDto(savedItem);
     }
 
     @Override
@@ -97,12 +116,30 @@ public class ItemServiceImpl implements ItemService {
         Pageable pageable = PageRequest.of(from > 0 ? from / size : 0, size, itemsSort);
         List<Item> items = itemRepository.findAllByOwnerId(userId, pageable);
 
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Booking> lastBookings = mapByItemId(
+                bookingRepository.findLastBookingsByItemIds(itemIds, BookingStatus.APPROVED, now));
+        Map<Long, Booking> nextBookings = mapByItemId(
+                bookingRepository.findNextBookingsByItemIds(itemIds, BookingStatus.APPROVED, now));
+
+        Map<Long, List<Comment>> comments = commentRepository.findAllByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId()));
+
         List<ItemForOwnerDto> itemForOwnerDtoList = new ArrayList<>();
         for (Item item : items) {
             ItemForOwnerDto itemForOwnerDto = ItemMapper.toEntityForOwnerDto(item);
 
-            setBookingsToItem(userId, item, itemForOwnerDto);
-            setCommentsToItem(item, itemForOwnerDto);
+            itemForOwnerDto.setLastBooking(BookingMapper.toShortDto(lastBookings.get(item.getId())));
+            itemForOwnerDto.setNextBooking(BookingMapper.toShortDto(nextBookings.get(item.getId())));
+            itemForOwnerDto.setComments(CommentMapper.toDto(comments.getOrDefault(item.getId(), List.of())));
 
             itemForOwnerDtoList.add(itemForOwnerDto);
         }
@@ -118,23 +155,32 @@ public class ItemServiceImpl implements ItemService {
         return ItemMapper.toDto(items);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<ItemDto>> getItemsByRequestIds(Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return itemRepository.findAllByRequestIdIn(requestIds, itemsSort).stream()
+                .map(ItemMapper::toDto)
+                .collect(Collectors.groupingBy(ItemDto::getRequestId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ItemForOwnerDto getById(Long userId, Long itemId) {
         findUserById(userId);
-        Item item = getItemById(itemId);
-
-        ItemForOwnerDto itemForOwnerDto = ItemMapper.toEntityForOwnerDto(item);
 
-        setBookingsToItem(userId, item, itemForOwnerDto);
-        setCommentsToItem(item, itemForOwnerDto);
+        ItemForOwnerDto itemForOwnerDto = itemDetailsCache.get(itemId, () -> getItemDetails(itemId));
+        setBookingsToItem(userId, itemForOwnerDto);
 
         return itemForOwnerDto;
     }
 
+    // без транзакции: попадание в кэш не должно занимать соединение с БД
     @Override
-    @Transactional(readOnly = true)
-    public List<ItemDto> getItemsByText(String text, Integer from, Integer size) {
+    public List<ItemDto> getItemsByText(String text, Integer from, Integer size, boolean byRelevance) {
         validatePageable(from, size);
 
         if (text == null || text.isEmpty()) {
@@ -142,7 +188,21 @@ public class ItemServiceImpl implements ItemService {
         }
 
         Pageable pageable = PageRequest.of(from > 0 ? from / size : 0, size, itemsSort);
-        return ItemMapper.toDto(itemRepository.findByText(text, pageable));
+        return itemSearchCache.get(text, from, size, byRelevance,
+                () -> ItemMapper.toDto(itemSearch.search(text, pageable, byRelevance)));
+    }
+
+    @Override
+    public List<ItemSuggestionDto> getSuggestions(String prefix, Integer size) {
+        if (size == null || size <= 0) {
+            throw new ValidationException("Неверное количество подсказок", HttpStatus.BAD_REQUEST);
+        }
+
+        if (prefix == null || prefix.isBlank()) {
+            return new ArrayList<>();
+        }
+
+        return itemSuggestions.suggest(prefix, size);
     }
 
     @Override
@@ -151,20 +211,18 @@ public class ItemServiceImpl implements ItemService {
         User author = findUserById(userId);
         Item item = getItemById(itemId);
 
-        List<BookingDto> bookingDtoList =
-                bookingService.getAllByBookerId(userId, BookingState.PAST.name(), 0, 100);
-
-        boolean hasValidBooking = bookingDtoList.stream()
-                .anyMatch(booking -> booking.getItemId()
-                        .equals(itemId) && booking.getStatus() == BookingStatus.APPROVED);
+        boolean hasValidBooking = bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndDateBefore(userId, itemId,
+                BookingStatus.APPROVED, LocalDateTime.now());
 
         if (!hasValidBooking) {
             throw new ValidationException("Пользователь не арендовал эту вещь", HttpStatus.BAD_REQUEST);
         }
 
         Comment comment = CommentMapper.toEntity(commentDto, item, author);
+        CommentDto savedComment = CommentMapper.toDto(commentRepository.save(comment));
+        itemDetailsCache.evict(itemId);
 
-        return CommentMapper.toDto(commentRepository.save(comment));
+        return savedComment;
     }
 
     private Item getItemById(Long itemId) {
@@ -200,39 +258,37 @@ public class ItemServiceImpl implements ItemService {
         return request;
     }
 
-    private void setBookingsToItem(Long userId, Item item, ItemForOwnerDto itemForOwnerDto) {
-        if (item.getOwner().getId().equals(userId)) {
-            List<Booking> bookings = bookingRepository.findAllByItemId(item.getId(), itemsSort);
+    private ItemForOwnerDto getItemDetails(Long itemId) {
+        Item item = getItemById(itemId);
 
-            Booking lastBooking = getLastBooking(bookings);
-            Booking nextBooking = getNextBooking(bookings);
+        ItemForOwnerDto itemForOwnerDto = ItemMapper.toEntityForOwnerDto(item);
+        itemForOwnerDto.setComments(CommentMapper.toDto(commentRepository.findAllByItemId(itemId)));
 
-            itemForOwnerDto.setLastBooking(BookingMapper.toShortDto(lastBooking));
-            itemForOwnerDto.setNextBooking(BookingMapper.toShortDto(nextBooking));
-        }
+        return itemForOwnerDto;
     }
 
-    private void setCommentsToItem(Item item, ItemForOwnerDto itemForOwnerDto) {
-        List<Comment> comments = commentRepository.findAllByItemId(item.getId());
+    private void setBookingsToItem(Long userId, ItemForOwnerDto itemForOwnerDto) {
+        if (itemForOwnerDto.getOwnerId().equals(userId)) {
+            LocalDateTime now = LocalDateTime.now();
 
-        List<CommentDto> commentDtoList = CommentMapper.toDto(comments);
-        itemForOwnerDto.setComments(commentDtoList);
-    }
+            Booking lastBooking = bookingRepository
+                    .findFirstByItemIdAndStatusAndStartDateBeforeOrderByStartDateDesc(itemForOwnerDto.getId(),
+                            BookingStatus.APPROVED, now)
+                    .orElse(null);
+            Booking nextBooking = bookingRepository
+                    .findFirstByItemIdAndStatusAndStartDateAfterOrderByStartDateAsc(itemForOwnerDto.getId(),
+                            BookingStatus.APPROVED, now)
+                    .orElse(null);
 
-    private static Booking getLastBooking(List<Booking> bookings) {
-        return bookings.stream()
-                .filter(b -> b.getStatus().equals(BookingStatus.APPROVED))
-                .filter(b -> b.getStartDate().isBefore(LocalDateTime.now()))
-                .max(Comparator.comparing(Booking::getStartDate))
-                .orElse(null);
+            itemForOwnerDto.setLastBooking(BookingMapper.toShortDto(lastBooking));
+            itemForOwnerDto.setNextBooking(BookingMapper.toShortDto(nextBooking));
+        }
     }
 
-    private static Booking getNextBooking(List<Booking> bookings) {
+    private static Map<Long, Booking> mapByItemId(List<Booking> bookings) {
         return bookings.stream()
-                .filter(b -> b.getStatus().equals(BookingStatus.APPROVED))
-                .filter(b -> b.getStartDate().isAfter(LocalDateTime.now()))
-                .min(Comparator.comparing(Booking::getStartDate))
-                .orElse(null);
+                .collect(Collectors.toMap(booking -> booking.getItem().getId(), Function.identity(),
+                        (first, second) -> first));
     }
 
     private static void validatePageable(Integer from, Integer size) {
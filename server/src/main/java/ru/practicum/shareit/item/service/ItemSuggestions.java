@@ -0,0 +1,82 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.common.TransactionCallbacks;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemSuggestionDto;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory autocomplete of available item names.
+ * Built before the web server starts taking requests and updated by {@link #index(Item)} after item changes are committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSuggestions implements SmartInitializingSingleton {
+
+    private final ItemRepository itemRepository;
+
+    private final ItemNameTrie trie = new ItemNameTrie();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Item> items = itemRepository.findAllByAvailableTrue();
+
+        lock.writeLock().lock();
+        try {
+            items.forEach(item -> trie.put(item.getId(), item.getName()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Индекс подсказок названий вещей построен: {} вещей", items.size());
+    }
+
+    public List<ItemSuggestionDto> suggest(String prefix, int size) {
+        List<ItemNameTrie.Match> matches;
+
+        lock.readLock().lock();
+        try {
+            matches = trie.find(prefix, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return matches.stream()
+                .map(match -> ItemSuggestionDto.builder()
+                        .id(match.itemId())
+                        .name(match.name())
+                        .build())
+                .toList();
+    }
+
+    public void index(Item item) {
+        Long itemId = item.getId();
+        String name = item.getName();
+        boolean available = Boolean.TRUE.equals(item.getAvailable());
+
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                if (available) {
+                    trie.put(itemId, name);
+                } else {
+                    trie.remove(itemId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+}
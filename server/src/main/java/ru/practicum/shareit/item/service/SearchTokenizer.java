@@ -0,0 +1,27 @@
+package ru.practicum.shareit.item.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits search text into lower-case words of letters and digits
+ */
+final class SearchTokenizer {
+
+    private static final String TOKEN_SEPARATOR = "[^\\p{L}\\p{N}]+";
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split(TOKEN_SEPARATOR))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.request.dto.RequestCursor;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.dto.RequestForOwnerDto;
 import ru.practicum.shareit.request.dto.RequestWithItemsDto;
@@ -12,6 +13,7 @@ import ru.practicum.shareit.request.service.RequestService;
 import jakarta.validation.Valid;
 import java.util.List;
 
+import static ru.practicum.shareit.common.Constants.X_NEXT_CURSOR;
 import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
 
 /**
@@ -41,9 +43,13 @@ public class RequestController {
     @GetMapping("/all")
     public ResponseEntity<List<RequestWithItemsDto>> getAllByUserIdAndPageable(@RequestHeader(X_SHARER_USER_ID) long userId,
                                                                                @RequestParam(defaultValue = "0") int from,
-                                                                               @RequestParam(defaultValue = "10") int size) {
+                                                                               @RequestParam(defaultValue = "10") int size,
+                                                                               @RequestParam(required = false) String cursor) {
         log.info("Получение всех запросов, кроме тех, у которых requestorId равен {}", userId);
-        return ResponseEntity.ok(requestService.getAllByUserIdAndPageable(userId, from, size));
+        List<RequestWithItemsDto> requests = cursor == null
+                ? requestService.getAllByUserIdAndPageable(userId, from, size)
+                : requestService.getAllByUserIdAfterCursor(userId, cursor, size);
+        return withNextCursor(requests, size);
     }
 
     @GetMapping("/{requestId}")
@@ -53,4 +59,13 @@ public class RequestController {
         return ResponseEntity.ok(requestService.getRequestById(userId, requestId));
     }
 
+    private static ResponseEntity<List<RequestWithItemsDto>> withNextCursor(List<RequestWithItemsDto> requests, int size) {
+        if (size > 0 && requests.size() == size) {
+            String nextCursor = RequestCursor.encode(requests.get(requests.size() - 1));
+            return ResponseEntity.ok().header(X_NEXT_CURSOR, nextCursor).body(requests);
+        }
+
+        return ResponseEntity.ok(requests);
+    }
+
 }
@@ -1,17 +1,28 @@
 package ru.practicum.shareit.request;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.request.model.Request;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface RequestRepository extends JpaRepository<Request, Long> {
 
     List<Request> findAllByRequestUserId(Long requestorId, Sort sort);
 
-    Page<Request> findAllByRequestUserIdNot(Long requestorId, Pageable pageable);
+    List<Request> findAllByRequestUserIdNot(Long requestorId, Pageable pageable);
 
-}
\ No newline at end of file
+    @Query("SELECT r FROM Request r " +
+            "WHERE r.requestUser.id <> :requestorId " +
+            "AND (r.createdDate, r.id) > (:cursorCreated, :cursorId) " +
+            "ORDER BY r.createdDate, r.id")
+    List<Request> findAllByRequestUserIdNotAfterCursor(@Param("requestorId") Long requestorId,
+                                                       @Param("cursorCreated") LocalDateTime cursorCreated,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
+
+}
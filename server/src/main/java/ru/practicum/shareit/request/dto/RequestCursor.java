@@ -0,0 +1,60 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Keyset cursor for the request feed - position ({@code createdDate}, {@code id}) of the last returned request.
+ * Clients receive it as an opaque token and pass it back to get the next page.
+ */
+@Getter
+@AllArgsConstructor
+public class RequestCursor {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime createdDate;
+
+    private final Long id;
+
+    public static RequestCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = value.lastIndexOf(SEPARATOR);
+
+            LocalDateTime createdDate = LocalDateTime.parse(value.substring(0, separatorIndex), DATE_TIME_FORMATTER);
+            Long id = Long.parseLong(value.substring(separatorIndex + 1));
+
+            return new RequestCursor(createdDate, id);
+        } catch (RuntimeException e) {
+            throw new ValidationException("Неверный курсор страницы: " + token, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Cursor of the request as the database stores it: the DTO of a just saved request may still carry nanoseconds,
+     * the creation date is rounded to the microsecond precision of the column like the database rounds it.
+     * The feed goes in ascending order, a truncated date below the rounded up stored one would repeat the request
+     */
+    public static String encode(RequestDto requestDto) {
+        LocalDateTime createdDate = LocalDateTime.parse(requestDto.getCreatedDate(), DATE_TIME_FORMATTER)
+                .plusNanos(500)
+                .truncatedTo(ChronoUnit.MICROS);
+        return new RequestCursor(createdDate, requestDto.getId()).encode();
+    }
+
+    public String encode() {
+        String value = DATE_TIME_FORMATTER.format(createdDate) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
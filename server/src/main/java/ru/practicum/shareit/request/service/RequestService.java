@@ -14,6 +14,8 @@ public interface RequestService {
 
     List<RequestWithItemsDto> getAllByUserIdAndPageable(Long userId, Integer from, Integer size);
 
+    List<RequestWithItemsDto> getAllByUserIdAfterCursor(Long userId, String cursor, Integer size);
+
     RequestWithItemsDto getRequestById(Long userId, Long requestId);
 
 }
\ No newline at end of file
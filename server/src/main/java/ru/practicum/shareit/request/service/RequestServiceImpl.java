@@ -14,6 +14,7 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.request.RequestMapper;
 import ru.practicum.shareit.request.RequestRepository;
+import ru.practicum.shareit.request.dto.RequestCursor;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.dto.RequestForOwnerDto;
 import ru.practicum.shareit.request.dto.RequestWithItemsDto;
@@ -23,6 +24,8 @@ import ru.practicum.shareit.user.model.User;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -34,6 +37,7 @@ public class RequestServiceImpl implements RequestService {
     private final ItemService itemService;
 
     private final Sort requestsSort = Sort.by(Sort.Direction.ASC, "createdDate");
+    private final Sort feedSort = Sort.by(Sort.Direction.ASC, "createdDate", "id");
 
     @Override
     @Transactional()
@@ -52,6 +56,7 @@ public class RequestServiceImpl implements RequestService {
         findUserById(userId);
 
         List<Request> requests = requestRepository.findAllByRequestUserId(userId, requestsSort);
+        Map<Long, List<ItemDto>> items = getItemsByRequests(requests);
 
         List<RequestForOwnerDto> requestForOwnerDtoList = new ArrayList<>();
 
@@ -59,7 +64,7 @@ public class RequestServiceImpl implements RequestService {
             RequestForOwnerDto requestForOwnerDto = RequestMapper.toEntityForOwnerDto(request);
 
             if (request.getRequestUser().getId().equals(userId)) {
-                requestForOwnerDto.setItems(getItemsByRequestId(request.getId()));
+                requestForOwnerDto.setItems(items.getOrDefault(request.getId(), List.of()));
             }
 
             requestForOwnerDtoList.add(requestForOwnerDto);
@@ -74,21 +79,23 @@ public class RequestServiceImpl implements RequestService {
         findUserById(userId);
         validatePageable(from, size);
 
-        Pageable pageable = PageRequest.of(from > 0 ? from / size : 0, size, requestsSort);
+        Pageable pageable = PageRequest.of(from > 0 ? from / size : 0, size, feedSort);
+        List<Request> requests = requestRepository.findAllByRequestUserIdNot(userId, pageable);
 
-        List<Request> requests = requestRepository
-                .findAllByRequestUserIdNot(userId, pageable)
-                .getContent();
+        return toWithItemsDto(requests);
+    }
 
-        List<RequestWithItemsDto> requestWithItemsDtoList = new ArrayList<>();
+    @Override
+    @Transactional(readOnly = true)
+    public List<RequestWithItemsDto> getAllByUserIdAfterCursor(Long userId, String cursor, Integer size) {
+        findUserById(userId);
+        validatePageable(0, size);
 
-        for (Request request : requests) {
-            RequestWithItemsDto requestWithItemsDto = RequestMapper.toEntityWithItemsDto(request);
-            requestWithItemsDto.setItems(getItemsByRequestId(request.getId()));
-            requestWithItemsDtoList.add(requestWithItemsDto);
-        }
+        RequestCursor requestCursor = RequestCursor.decode(cursor);
+        List<Request> requests = requestRepository.findAllByRequestUserIdNotAfterCursor(userId,
+                requestCursor.getCreatedDate(), requestCursor.getId(), PageRequest.ofSize(size));
 
-        return requestWithItemsDtoList;
+        return toWithItemsDto(requests);
     }
 
     public RequestWithItemsDto getRequestById(Long userId, Long requestId) {
@@ -115,6 +122,28 @@ public class RequestServiceImpl implements RequestService {
         return itemService.getItemsByRequestId(requestId);
     }
 
+    private List<RequestWithItemsDto> toWithItemsDto(List<Request> requests) {
+        Map<Long, List<ItemDto>> items = getItemsByRequests(requests);
+
+        List<RequestWithItemsDto> requestWithItemsDtoList = new ArrayList<>();
+
+        for (Request request : requests) {
+            RequestWithItemsDto requestWithItemsDto = RequestMapper.toEntityWithItemsDto(request);
+            requestWithItemsDto.setItems(items.getOrDefault(request.getId(), List.of()));
+            requestWithItemsDtoList.add(requestWithItemsDto);
+        }
+
+        return requestWithItemsDtoList;
+    }
+
+    private Map<Long, List<ItemDto>> getItemsByRequests(List<Request> requests) {
+        List<Long> requestIds = requests.stream()
+                .map(Request::getId)
+                .collect(Collectors.toList());
+
+        return itemService.getItemsByRequestIds(requestIds);
+    }
+
     private User findUserById(long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> {
@@ -7,11 +7,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.EntityNotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.service.ItemDetailsCache;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.UserRepository;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @Slf4j
@@ -19,6 +21,7 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ItemDetailsCache itemDetailsCache;
 
     @Override
     @Transactional
@@ -34,6 +37,7 @@ public class UserServiceImpl implements UserService {
             validateIsEmailExist(userDto);
         }
 
+        String previousName = existingUser.getName();
         if (userDto.getName() != null) {
             existingUser.setName(userDto.getName());
         }
@@ -42,7 +46,13 @@ public class UserServiceImpl implements UserService {
             existingUser.setEmail(userDto.getEmail());
         }
 
-        return UserMapper.toDto(userRepository.saveAndFlush(UserMapper.toEntity(existingUser)));
+        UserDto updatedUser = UserMapper.toDto(userRepository.saveAndFlush(UserMapper.toEntity(existingUser)));
+        if (!Objects.equals(previousName, updatedUser.getName())) {
+            // cached item pages show the author name of comments
+            itemDetailsCache.evictCommentedBy(previousName);
+        }
+
+        return updatedUser;
     }
 
     private void validateIsEmailExist(UserDto userDto) {
@@ -0,0 +1,29 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS period TSRANGE
+    GENERATED ALWAYS AS (TSRANGE(start_date, end_date, '[)')) STORED;
+
+-- created once and never dropped: the script runs on every startup, possibly of several instances at a time.
+-- The body is single-quoted because the script splitter doesn't understand dollar quoting.
+DO '
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = ''bookings_approved_no_overlap'') THEN
+        ALTER TABLE bookings ADD CONSTRAINT bookings_approved_no_overlap
+            EXCLUDE USING GIST (item_id WITH =, period WITH &&) WHERE (status = ''APPROVED'');
+    END IF;
+EXCEPTION
+    WHEN duplicate_object OR duplicate_table THEN
+        NULL;
+END
+';
+
+ALTER TABLE items ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+    GENERATED ALWAYS AS (SETWEIGHT(TO_TSVECTOR('simple', name), 'A') ||
+                         SETWEIGHT(TO_TSVECTOR('simple', description), 'B')) STORED;
+
+CREATE INDEX IF NOT EXISTS items_search_idx ON items USING GIN (search_vector);
+
+-- trigram indexes let the default substring search (UPPER(...) LIKE '%text%') skip the full table scan
+CREATE INDEX IF NOT EXISTS items_name_trgm_idx ON items USING GIN (UPPER(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS items_description_trgm_idx ON items USING GIN (UPPER(description) gin_trgm_ops);
@@ -16,6 +16,8 @@ CREATE TABLE IF NOT EXISTS requests
     created_date TIMESTAMP WITHOUT TIME ZONE  NOT NULL
 );
 
+CREATE INDEX IF NOT EXISTS requests_created_id_idx ON requests (created_date, id);
+
 
 CREATE SEQUENCE IF NOT EXISTS ITEMS_ID_SEQ START WITH 1 INCREMENT BY 1;
 CREATE TABLE IF NOT EXISTS items
@@ -28,7 +30,10 @@ CREATE TABLE IF NOT EXISTS items
     request_id   BIGINT
 );
 
-CREATE SEQUENCE IF NOT EXISTS BOOKINGS_ID_SEQ START WITH 1 INCREMENT BY 1;
+CREATE INDEX IF NOT EXISTS items_owner_idx ON items (owner_id);
+
+CREATE SEQUENCE IF NOT EXISTS BOOKINGS_ID_SEQ START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE BOOKINGS_ID_SEQ INCREMENT BY 50;
 CREATE TABLE IF NOT EXISTS bookings
 (
     id         BIGINT DEFAULT NEXTVAL('BOOKINGS_ID_SEQ') PRIMARY KEY,
@@ -39,6 +44,22 @@ CREATE TABLE IF NOT EXISTS bookings
     status     TEXT
 );
 
+-- last/next booking of items: findLastBookingsByItemIds, findNextBookingsByItemIds and their findFirstByItemId... forms
+CREATE INDEX IF NOT EXISTS bookings_item_status_start_idx ON bookings (item_id, status, start_date);
+-- bookings of the booker in any state, pages in start_date DESC, id DESC order: findAllByBookerId,
+-- findByBookerIdCurrent, findByBookerIdAndEndDateIsBefore, findByBookerIdAndStartDateIsAfter,
+-- findByBookerIdAndStatus and their ...AfterCursor forms
+CREATE INDEX IF NOT EXISTS bookings_booker_start_id_idx ON bookings (booker_id, start_date DESC, id DESC);
+-- bookings of the owner's items in the same order, joined by item_id: findAllByItemOwner,
+-- findCurrentBookingsByOwner, findByItemOwnerIdAndEndDateIsBefore, findByItemOwnerIdAndStartDateIsAfter,
+-- findByItemOwnerIdAndStatus and their ...AfterCursor forms
+CREATE INDEX IF NOT EXISTS bookings_item_start_id_idx ON bookings (item_id, start_date DESC, id DESC);
+-- comment eligibility: existsByBookerIdAndItemIdAndStatusAndEndDateBefore
+CREATE INDEX IF NOT EXISTS bookings_booker_item_status_end_idx ON bookings (booker_id, item_id, status, end_date);
+-- CURRENT pages are served by the start_date ordered indexes above, drop the end_date ones of existing databases
+DROP INDEX IF EXISTS bookings_booker_end_idx;
+DROP INDEX IF EXISTS bookings_item_end_idx;
+
 CREATE SEQUENCE IF NOT EXISTS COMMENTS_ID_SEQ START WITH 1 INCREMENT BY 1;
 CREATE TABLE IF NOT EXISTS comments
 (
@@ -0,0 +1,139 @@
+package ru.practicum.shareit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Throughput of the server on platform and on virtual request threads under many concurrent clients.
+ * Not part of the regular build, run with
+ * {@code mvn test -pl server -Dtest=RequestThroughputBenchmarkTest -Dbenchmark=true},
+ * optionally with {@code -Dbenchmark.clients=1000 -Dbenchmark.seconds=10}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RequestThroughputBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1000);
+
+    private static final Duration WARM_UP = Duration.ofSeconds(3);
+
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 10));
+
+    private static final int MAX_LATENCY_MILLIS = 30_000;
+
+    @Test
+    void compareThroughput() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        log.info("{} клиентов, платформенные потоки: {}", CLIENTS, platform);
+        log.info("{} клиентов, виртуальные потоки: {}", CLIENTS, virtual);
+
+        assertTrue(platform.requests() > 0);
+        assertTrue(virtual.requests() > 0);
+    }
+
+    private Result run(boolean virtualThreads) throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItServer.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.org.springframework.transaction.interceptor=WARN",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN",
+                "--logging.level." + RequestThroughputBenchmarkTest.class.getName() + "=INFO")) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            User user = context.getBean(UserRepository.class)
+                    .save(User.builder().name("Benchmark User").email("benchmark@gmail.com").build());
+            URI uri = URI.create("http://localhost:" + port + "/users/" + user.getId());
+
+            load(uri, WARM_UP);
+            return load(uri, MEASUREMENT);
+        }
+    }
+
+    private static Result load(URI uri, Duration duration) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        LongAdder errors = new LongAdder();
+        AtomicLongArray latencies = new AtomicLongArray(MAX_LATENCY_MILLIS + 1);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (HttpClient httpClient = HttpClient.newHttpClient();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.increment();
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                        latencies.incrementAndGet((int) Math.min(millis, MAX_LATENCY_MILLIS));
+                    }
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(duration.toMillis() + MAX_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        return Result.of(latencies, errors.sum(), duration);
+    }
+
+    private record Result(long requests, long errors, double requestsPerSecond, long p50Millis, long p99Millis) {
+
+        private static Result of(AtomicLongArray latencies, long errors, Duration duration) {
+            long requests = 0;
+            for (int i = 0; i < latencies.length(); i++) {
+                requests += latencies.get(i);
+            }
+
+            return new Result(requests, errors, requests * 1000.0 / duration.toMillis(),
+                    percentile(latencies, requests, 0.5), percentile(latencies, requests, 0.99));
+        }
+
+        private static long percentile(AtomicLongArray latencies, long requests, double percentile) {
+            long rank = (long) Math.ceil(requests * percentile);
+            long seen = 0;
+            for (int i = 0; i < latencies.length(); i++) {
+                seen += latencies.get(i);
+                if (seen >= rank) {
+                    return i;
+                }
+            }
+            return latencies.length() - 1;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.0f запросов/с, p50 %d мс, p99 %d мс, ошибок %d из %d",
+                    requestsPerSecond, p50Millis, p99Millis, errors, requests);
+        }
+
+    }
+
+}
@@ -11,18 +11,27 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusResultDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.exception.EntityNotFoundException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.common.Constants.X_NEXT_CURSOR;
 import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
 
 @SpringBootTest
@@ -117,6 +126,33 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.error").value("{endDate=Дата завершения бронирования является обязательным полем}"));
     }
 
+    @Test
+    void addAll_shouldReturnCreatedBookings_whenBookingsAreValid() throws Exception {
+        when(bookingServiceMock.addAll(anyList(), anyLong()))
+                .thenReturn(List.of(bookingDto));
+
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(X_SHARER_USER_ID, 1L)
+                        .content(objectMapper.writeValueAsString(List.of(bookingDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(bookingDto.getId()))
+                .andExpect(jsonPath("$[0].itemId").value(bookingDto.getItemId()));
+    }
+
+    @Test
+    void addAll_shouldReturnBadRequest_whenBookingIsInvalid() throws Exception {
+        bookingDto.setEndDate(null);
+
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(X_SHARER_USER_ID, 1L)
+                        .content(objectMapper.writeValueAsString(List.of(bookingDto))))
+                .andExpect(status().isBadRequest());
+
+        verify(bookingServiceMock, never()).addAll(anyList(), anyLong());
+    }
+
     @Test
     void updateStatus_shouldReturnUpdatedBooking_whenBookingIsApproved() throws Exception {
         bookingDto.setStatus(BookingStatus.APPROVED);
@@ -132,6 +168,43 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.status").value(bookingDto.getStatus().toString()));
     }
 
+    @Test
+    void updateStatuses_shouldReturnResultPerBooking() throws Exception {
+        List<BookingStatusUpdateDto> updates = List.of(
+                BookingStatusUpdateDto.builder().bookingId(1L).approved(true).build(),
+                BookingStatusUpdateDto.builder().bookingId(2L).approved(false).build());
+        when(bookingServiceMock.updateStatuses(anyList(), anyLong()))
+                .thenReturn(List.of(
+                        BookingStatusResultDto.builder().bookingId(1L).status(BookingStatus.APPROVED).build(),
+                        BookingStatusResultDto.builder().bookingId(2L).status(BookingStatus.APPROVED)
+                                .error("Уже подтвержден владельцем").build()));
+
+        mockMvc.perform(patch("/bookings/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(X_SHARER_USER_ID, 1L)
+                        .content(objectMapper.writeValueAsString(updates)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].bookingId").value(1L))
+                .andExpect(jsonPath("$[0].status").value("APPROVED"))
+                .andExpect(jsonPath("$[1].bookingId").value(2L))
+                .andExpect(jsonPath("$[1].error").value("Уже подтвержден владельцем"));
+    }
+
+    @Test
+    void updateStatuses_shouldReturnBadRequest_whenDecisionIsMissing() throws Exception {
+        List<BookingStatusUpdateDto> updates = List.of(BookingStatusUpdateDto.builder().bookingId(1L).build());
+
+        mockMvc.perform(patch("/bookings/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(X_SHARER_USER_ID, 1L)
+                        .content(objectMapper.writeValueAsString(updates)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(containsString("Решение по бронированию является обязательным полем")));
+
+        verify(bookingServiceMock, never()).updateStatuses(anyList(), anyLong());
+    }
+
     @Test
     void getById_shouldReturnBooking_whenBookingExists() throws Exception {
         when(bookingServiceMock.getById(anyLong(), anyLong()))
@@ -202,4 +275,38 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$[0].status").value(bookingDto.getStatus().toString()));
     }
 
-}
\ No newline at end of file
+    @Test
+    void getAll_shouldUseCursorAndReturnNextCursor_whenCursorPassed() throws Exception {
+        String cursor = new BookingCursor(LocalDateTime.parse("2024-06-25T09:00:00"), 5L).encode();
+        when(bookingServiceMock.getAllByBookerIdAfterCursor(anyLong(), anyString(), eq(cursor), eq(1)))
+                .thenReturn(List.of(bookingDto));
+
+        mockMvc.perform(get("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(X_SHARER_USER_ID, 1L)
+                        .param("state", "ALL")
+                        .param("size", "1")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(bookingDto.getId()))
+                .andExpect(header().string(X_NEXT_CURSOR, BookingCursor.encode(bookingDto)));
+    }
+
+    @Test
+    void getAllByOwnerId_shouldNotReturnNextCursor_whenPageIsNotFull() throws Exception {
+        String cursor = new BookingCursor(LocalDateTime.parse("2024-06-25T09:00:00"), 5L).encode();
+        when(bookingServiceMock.getAllByOwnerIdAfterCursor(anyLong(), anyString(), eq(cursor), eq(10)))
+                .thenReturn(List.of(bookingDto));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(X_SHARER_USER_ID, 1L)
+                        .param("state", "ALL")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().doesNotExist(X_NEXT_CURSOR));
+    }
+
+}
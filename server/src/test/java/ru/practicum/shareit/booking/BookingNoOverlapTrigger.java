@@ -0,0 +1,43 @@
+package ru.practicum.shareit.booking;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * H2 replacement of the postgres exclusion constraint {@code bookings_approved_no_overlap}:
+ * rejects an APPROVED booking whose period overlaps another APPROVED booking of the same item.
+ */
+public class BookingNoOverlapTrigger implements Trigger {
+
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private static final String OVERLAP_QUERY = "SELECT 1 FROM bookings " +
+            "WHERE item_id = ? AND status = 'APPROVED' AND id <> ? AND start_date < ? AND end_date > ? " +
+            "LIMIT 1";
+
+    @Override
+    public void fire(Connection connection, Object[] oldRow, Object[] newRow) throws SQLException {
+        if (newRow == null || !"APPROVED".equals(newRow[5])) {
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(OVERLAP_QUERY)) {
+            statement.setObject(1, newRow[1]);
+            statement.setObject(2, newRow[0]);
+            statement.setObject(3, newRow[4]);
+            statement.setObject(4, newRow[3]);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    throw new SQLException("conflicting key value violates exclusion constraint " +
+                            "\"bookings_approved_no_overlap\"", EXCLUSION_VIOLATION);
+                }
+            }
+        }
+    }
+
+}
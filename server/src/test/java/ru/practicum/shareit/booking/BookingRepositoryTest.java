@@ -1,14 +1,22 @@
 package ru.practicum.shareit.booking;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.UserRepository;
@@ -16,8 +24,10 @@ import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -32,6 +42,9 @@ class BookingRepositoryTest {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void testFindAllByBookerId() {
         //given
@@ -43,32 +56,34 @@ class BookingRepositoryTest {
         createBooking(userBooker, item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.WAITING);
 
         //that
-        List<Booking> bookings = bookingRepository.findAllByBookerId(userBooker.getId(), pageable);
+        List<BookingView> bookings = bookingRepository.findAllByBookerId(userBooker.getId(), pageable);
 
         //then
         assertThat(bookings).hasSize(1);
-        Booking foundBooking = bookings.get(0);
-        assertThat(foundBooking.getItem().getName()).isEqualTo("Test Item");
-        assertThat(foundBooking.getBooker().getName()).isEqualTo("Test User Booker");
+        BookingView foundBooking = bookings.get(0);
+        assertThat(foundBooking.getItemName()).isEqualTo("Test Item");
+        assertThat(foundBooking.getBookerName()).isEqualTo("Test User Booker");
     }
 
     @Test
     void testFindByBookerIdCurrent() {
         //given
+        Pageable pageable = PageRequest.of(0, 10);
+
         User userBooker = createUser("user_booker@gmail.com", "Test User Booker");
         User userOwner = createUser("user_owner@gmail.com", "User Owner");
         Item item = createItem(userOwner, "Test Item", "Item Description");
         createBooking(userBooker, item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.WAITING);
 
         //that
-        List<Booking> bookings = bookingRepository
-                .findByBookerIdCurrent(userBooker.getId(), LocalDateTime.now().plusHours(36));
+        List<BookingView> bookings = bookingRepository
+                .findByBookerIdCurrent(userBooker.getId(), LocalDateTime.now().plusHours(36), pageable);
 
         //then
         assertThat(bookings).isNotEmpty();
-        Booking foundBooking = bookings.get(0);
-        assertThat(foundBooking.getItem().getName()).isEqualTo("Test Item");
-        assertThat(foundBooking.getBooker().getName()).isEqualTo("Test User Booker");
+        BookingView foundBooking = bookings.get(0);
+        assertThat(foundBooking.getItemName()).isEqualTo("Test Item");
+        assertThat(foundBooking.getBookerName()).isEqualTo("Test User Booker");
     }
 
     @Test
@@ -82,14 +97,14 @@ class BookingRepositoryTest {
         createBooking(userBooker, item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.WAITING);
 
         //that
-        List<Booking> bookings = bookingRepository
+        List<BookingView> bookings = bookingRepository
                 .findByBookerIdAndEndDateIsBefore(userBooker.getId(), LocalDateTime.now().plusDays(3), pageable);
 
         //then
         assertThat(bookings).isNotEmpty();
-        Booking foundBooking = bookings.get(0);
-        assertThat(foundBooking.getItem().getName()).isEqualTo("Test Item");
-        assertThat(foundBooking.getBooker().getName()).isEqualTo("Test User Booker");
+        BookingView foundBooking = bookings.get(0);
+        assertThat(foundBooking.getItemName()).isEqualTo("Test Item");
+        assertThat(foundBooking.getBookerName()).isEqualTo("Test User Booker");
     }
 
     @Test
@@ -102,14 +117,14 @@ class BookingRepositoryTest {
         createBooking(userBooker, item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.WAITING);
 
         //that
-        List<Booking> bookings = bookingRepository
+        List<BookingView> bookings = bookingRepository
                 .findByBookerIdAndStartDateIsAfter(userBooker.getId(), LocalDateTime.now(), pageable);
 
         //then
         assertThat(bookings).isNotEmpty();
-        Booking foundBooking = bookings.get(0);
-        assertThat(foundBooking.getItem().getName()).isEqualTo("Test Item");
-        assertThat(foundBooking.getBooker().getName()).isEqualTo("Test User Booker");
+        BookingView foundBooking = bookings.get(0);
+        assertThat(foundBooking.getItemName()).isEqualTo("Test Item");
+        assertThat(foundBooking.getBookerName()).isEqualTo("Test User Booker");
     }
 
     @Test
@@ -123,14 +138,14 @@ class BookingRepositoryTest {
         createBooking(userBooker, item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.WAITING);
 
         //that
-        List<Booking> bookings = bookingRepository
+        List<BookingView> bookings = bookingRepository
                 .findByBookerIdAndStatus(userBooker.getId(), BookingStatus.WAITING, pageable);
 
         //then
         assertThat(bookings).isNotEmpty();
-        Booking foundBooking = bookings.get(0);
-        assertThat(foundBooking.getItem().getName()).isEqualTo("Test Item");
-        assertThat(foundBooking.getBooker().getName()).isEqualTo("Test User Booker");
+        BookingView foundBooking = bookings.get(0);
+        assertThat(foundBooking.getItemName()).isEqualTo("Test Item");
+        assertThat(foundBooking.getBookerName()).isEqualTo("Test User Booker");
         assertThat(foundBooking.getStatus()).isEqualTo(BookingStatus.WAITING);
     }
 
@@ -145,32 +160,34 @@ class BookingRepositoryTest {
         createBooking(userBooker, item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.WAITING);
 
         //that
-        List<Booking> bookings = bookingRepository.findAllByItemOwner(userOwner.getId(), pageable);
+        List<BookingView> bookings = bookingRepository.findAllByItemOwner(userOwner.getId(), pageable);
 
         //then
         assertThat(bookings).isNotEmpty();
-        Booking foundBooking = bookings.get(0);
-        assertThat(foundBooking.getItem().getName()).isEqualTo("Test Item");
-        assertThat(foundBooking.getBooker().getName()).isEqualTo("Test User Booker");
+        BookingView foundBooking = bookings.get(0);
+        assertThat(foundBooking.getItemName()).isEqualTo("Test Item");
+        assertThat(foundBooking.getBookerName()).isEqualTo("Test User Booker");
     }
 
     @Test
     void testFindCurrentBookingsByOwner() {
         //given
+        Pageable pageable = PageRequest.of(0, 10);
+
         User userBooker = createUser("user_booker@gmail.com", "Test User Booker");
         User userOwner = createUser("user_owner@gmail.com", "User Owner");
         Item item = createItem(userOwner, "Test Item", "Item Description");
         createBooking(userBooker, item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.WAITING);
 
         //that
-        List<Booking> bookings = bookingRepository
-                .findCurrentBookingsByOwner(userOwner.getId(), LocalDateTime.now().plusHours(36));
+        List<BookingView> bookings = bookingRepository
+                .findCurrentBookingsByOwner(userOwner.getId(), LocalDateTime.now().plusHours(36), pageable);
 
         //then
         assertThat(bookings).isNotEmpty();
-        Booking foundBooking = bookings.get(0);
-        assertThat(foundBooking.getItem().getName()).isEqualTo("Test Item");
-        assertThat(foundBooking.getBooker().getName()).isEqualTo("Test User Booker");
+        BookingView foundBooking = bookings.get(0);
+        assertThat(foundBooking.getItemName()).isEqualTo("Test Item");
+        assertThat(foundBooking.getBookerName()).isEqualTo("Test User Booker");
     }
 
     @Test
@@ -184,14 +201,14 @@ class BookingRepositoryTest {
         createBooking(userBooker, item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.WAITING);
 
         //that
-        List<Booking> bookings = bookingRepository
+        List<BookingView> bookings = bookingRepository
                 .findByItemOwnerIdAndEndDateIsBefore(userOwner.getId(), LocalDateTime.now().plusDays(3), pageable);
 
         //then
         assertThat(bookings).isNotEmpty();
-        Booking foundBooking = bookings.get(0);
-        assertThat(foundBooking.getItem().getName()).isEqualTo("Test Item");
-        assertThat(foundBooking.getBooker().getName()).isEqualTo("Test User Booker");
+        BookingView foundBooking = bookings.get(0);
+        assertThat(foundBooking.getItemName()).isEqualTo("Test Item");
+        assertThat(foundBooking.getBookerName()).isEqualTo("Test User Booker");
     }
 
     @Test
@@ -205,13 +222,13 @@ class BookingRepositoryTest {
         createBooking(userBooker, item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.WAITING);
 
         //that
-        List<Booking> bookings = bookingRepository.findByItemOwnerIdAndStartDateIsAfter(userOwner.getId(), LocalDateTime.now(), pageable);
+        List<BookingView> bookings = bookingRepository.findByItemOwnerIdAndStartDateIsAfter(userOwner.getId(), LocalDateTime.now(), pageable);
 
         //then
         assertThat(bookings).isNotEmpty();
-        Booking foundBooking = bookings.get(0);
-        assertThat(foundBooking.getItem().getName()).isEqualTo("Test Item");
-        assertThat(foundBooking.getBooker().getName()).isEqualTo("Test User Booker");
+        BookingView foundBooking = bookings.get(0);
+        assertThat(foundBooking.getItemName()).isEqualTo("Test Item");
+        assertThat(foundBooking.getBookerName()).isEqualTo("Test User Booker");
     }
 
     @Test
@@ -225,13 +242,13 @@ class BookingRepositoryTest {
         createBooking(userBooker, item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.WAITING);
 
         //that
-        List<Booking> bookings = bookingRepository.findByItemOwnerIdAndStatus(userOwner.getId(), BookingStatus.WAITING, pageable);
+        List<BookingView> bookings = bookingRepository.findByItemOwnerIdAndStatus(userOwner.getId(), BookingStatus.WAITING, pageable);
 
         //then
         assertThat(bookings).isNotEmpty();
-        Booking foundBooking = bookings.get(0);
-        assertThat(foundBooking.getItem().getName()).isEqualTo("Test Item");
-        assertThat(foundBooking.getBooker().getName()).isEqualTo("Test User Booker");
+        BookingView foundBooking = bookings.get(0);
+        assertThat(foundBooking.getItemName()).isEqualTo("Test Item");
+        assertThat(foundBooking.getBookerName()).isEqualTo("Test User Booker");
         assertThat(foundBooking.getStatus()).isEqualTo(BookingStatus.WAITING);
     }
 
@@ -255,6 +272,212 @@ class BookingRepositoryTest {
         assertThat(foundBooking.getBooker().getName()).isEqualTo("Test User Booker");
     }
 
+    @Test
+    void testFindLastAndNextBookingsByItemIds() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+
+        User userBooker = createUser("user_booker@gmail.com", "Test User Booker");
+        User userOwner = createUser("user_owner@gmail.com", "User Owner");
+        Item item1 = createItem(userOwner, "Test Item 1", "Item Description 1");
+        Item item2 = createItem(userOwner, "Test Item 2", "Item Description 2");
+
+        createBooking(userBooker, item1, now.minusDays(5), now.minusDays(4), BookingStatus.APPROVED);
+        Booking last1 = createBooking(userBooker, item1, now.minusDays(2), now.minusDays(1), BookingStatus.APPROVED);
+        createBooking(userBooker, item1, now.minusHours(5), now.minusHours(1), BookingStatus.REJECTED);
+        Booking next1 = createBooking(userBooker, item1, now.plusDays(1), now.plusDays(2), BookingStatus.APPROVED);
+        createBooking(userBooker, item1, now.plusDays(3), now.plusDays(4), BookingStatus.APPROVED);
+        Booking next2 = createBooking(userBooker, item2, now.plusDays(2), now.plusDays(3), BookingStatus.APPROVED);
+
+        //that
+        List<Booking> lastBookings = bookingRepository
+                .findLastBookingsByItemIds(List.of(item1.getId(), item2.getId()), BookingStatus.APPROVED, now);
+        List<Booking> nextBookings = bookingRepository
+                .findNextBookingsByItemIds(List.of(item1.getId(), item2.getId()), BookingStatus.APPROVED, now);
+
+        //then
+        assertThat(lastBookings).extracting(Booking::getId).containsExactly(last1.getId());
+        assertThat(nextBookings).extracting(Booking::getId).containsExactlyInAnyOrder(next1.getId(), next2.getId());
+    }
+
+    @Test
+    void testFindFirstLastAndNextBookingByItemId() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+
+        User userBooker = createUser("user_booker@gmail.com", "Test User Booker");
+        User userOwner = createUser("user_owner@gmail.com", "User Owner");
+        Item item = createItem(userOwner, "Test Item", "Item Description");
+
+        createBooking(userBooker, item, now.minusDays(5), now.minusDays(4), BookingStatus.APPROVED);
+        Booking last = createBooking(userBooker, item, now.minusDays(2), now.minusDays(1), BookingStatus.APPROVED);
+        createBooking(userBooker, item, now.minusHours(5), now.minusHours(1), BookingStatus.WAITING);
+        createBooking(userBooker, item, now.plusHours(1), now.plusHours(5), BookingStatus.REJECTED);
+        Booking next = createBooking(userBooker, item, now.plusDays(1), now.plusDays(2), BookingStatus.APPROVED);
+        createBooking(userBooker, item, now.plusDays(3), now.plusDays(4), BookingStatus.APPROVED);
+
+        //that
+        Optional<Booking> foundLast = bookingRepository
+                .findFirstByItemIdAndStatusAndStartDateBeforeOrderByStartDateDesc(item.getId(), BookingStatus.APPROVED, now);
+        Optional<Booking> foundNext = bookingRepository
+                .findFirstByItemIdAndStatusAndStartDateAfterOrderByStartDateAsc(item.getId(), BookingStatus.APPROVED, now);
+
+        //then
+        assertThat(foundLast).map(Booking::getId).contains(last.getId());
+        assertThat(foundNext).map(Booking::getId).contains(next.getId());
+    }
+
+    @Test
+    void testFindAllByBookerIdAfterCursor() {
+        //given
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(123_456_321);
+
+        User userBooker = createUser("user_booker@gmail.com", "Test User Booker");
+        User userOwner = createUser("user_owner@gmail.com", "User Owner");
+        Item item = createItem(userOwner, "Test Item", "Item Description");
+        Booking first = createBooking(userBooker, item, start.plusDays(2), start.plusDays(3), BookingStatus.WAITING);
+        Booking second = createBooking(userBooker, item, start, start.plusDays(1), BookingStatus.WAITING);
+        Booking third = createBooking(userBooker, item, start, start.plusDays(1), BookingStatus.WAITING);
+
+        //that
+        BookingCursor firstCursor = BookingCursor.decode(BookingCursor.encode(BookingMapper.toDto(first)));
+        BookingCursor thirdCursor = BookingCursor.decode(BookingCursor.encode(BookingMapper.toDto(third)));
+        List<BookingView> bookings = bookingRepository.findAllByBookerIdAfterCursor(userBooker.getId(),
+                firstCursor.getStartDate(), firstCursor.getId(), PageRequest.ofSize(10));
+        List<BookingView> nextBookings = bookingRepository.findAllByBookerIdAfterCursor(userBooker.getId(),
+                thirdCursor.getStartDate(), thirdCursor.getId(), PageRequest.ofSize(10));
+
+        //then
+        assertThat(bookings).extracting(BookingView::getId).containsExactly(third.getId(), second.getId());
+        assertThat(nextBookings).extracting(BookingView::getId).containsExactly(second.getId());
+    }
+
+    @Test
+    void testFindFutureByItemOwnerAfterCursor() {
+        //given
+        LocalDateTime now = LocalDateTime.now().withNano(123_456_321);
+
+        User userBooker = createUser("user_booker@gmail.com", "Test User Booker");
+        User userOwner = createUser("user_owner@gmail.com", "User Owner");
+        Item item = createItem(userOwner, "Test Item", "Item Description");
+        createBooking(userBooker, item, now.minusDays(2), now.minusDays(1), BookingStatus.APPROVED);
+        Booking later = createBooking(userBooker, item, now.plusDays(3), now.plusDays(4), BookingStatus.APPROVED);
+        Booking sooner = createBooking(userBooker, item, now.plusDays(1), now.plusDays(2), BookingStatus.APPROVED);
+
+        //that
+        BookingCursor cursor = BookingCursor.decode(BookingCursor.encode(BookingMapper.toDto(later)));
+        List<BookingView> bookings = bookingRepository.findFutureByItemOwnerAfterCursor(userOwner.getId(), now,
+                cursor.getStartDate(), cursor.getId(), PageRequest.ofSize(10));
+
+        //then
+        assertThat(bookings).extracting(BookingView::getId).containsExactly(sooner.getId());
+    }
+
+    @Test
+    void testFindCurrentBookingsByOwnerPaged() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+
+        User userBooker = createUser("user_booker@gmail.com", "Test User Booker");
+        User userOwner = createUser("user_owner@gmail.com", "User Owner");
+        Item item = createItem(userOwner, "Test Item", "Item Description");
+        createBooking(userBooker, item, now.minusDays(3), now.plusDays(1), BookingStatus.WAITING);
+        Booking latest = createBooking(userBooker, item, now.minusDays(1), now.plusDays(1), BookingStatus.WAITING);
+        createBooking(userBooker, item, now.minusDays(2), now.minusDays(1), BookingStatus.WAITING);
+
+        //that
+        List<BookingView> bookings = bookingRepository.findCurrentBookingsByOwner(userOwner.getId(), now,
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "startDate", "id")));
+
+        //then
+        assertThat(bookings).extracting(BookingView::getId).containsExactly(latest.getId());
+    }
+
+    @Test
+    void testApprovedBookingsOfItemDoNotOverlap() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+
+        User userBooker = createUser("user_booker@gmail.com", "Test User Booker");
+        User userOwner = createUser("user_owner@gmail.com", "User Owner");
+        Item item = createItem(userOwner, "Test Item", "Item Description");
+        createBooking(userBooker, item, now.plusDays(1), now.plusDays(3), BookingStatus.APPROVED);
+        createBooking(userBooker, item, now.plusDays(3), now.plusDays(4), BookingStatus.APPROVED);
+        Booking waiting = createBooking(userBooker, item, now.plusDays(2), now.plusDays(5), BookingStatus.WAITING);
+        bookingRepository.flush();
+
+        //that
+        waiting.setStatus(BookingStatus.APPROVED);
+
+        //then
+        assertThatThrownBy(() -> bookingRepository.saveAndFlush(waiting))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void testBookingListPagesAreLoadedWithOneStatement() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+
+        User userBooker = createUser("user_booker@gmail.com", "Test User Booker");
+        User userOwner = createUser("user_owner@gmail.com", "User Owner");
+        Item item1 = createItem(userOwner, "Test Item 1", "Item Description");
+        Item item2 = createItem(userOwner, "Test Item 2", "Item Description");
+        createBooking(userBooker, item1, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        createBooking(userBooker, item1, now.plusDays(3), now.plusDays(4), BookingStatus.WAITING);
+        createBooking(userBooker, item2, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        //that
+        List<BookingDto> bookerBookings = BookingMapper.toDtoFromViews(bookingRepository.findAllByBookerId(userBooker.getId(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startDate", "id"))));
+        long bookerStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<BookingDto> ownerBookings = BookingMapper.toDtoFromViews(bookingRepository.findAllByItemOwnerAfterCursor(
+                userOwner.getId(), now.plusYears(1), Long.MAX_VALUE, PageRequest.ofSize(10)));
+        long ownerStatements = statistics.getPrepareStatementCount();
+
+        //then
+        assertThat(bookerBookings).hasSize(3);
+        assertThat(bookerBookings).allSatisfy(booking -> {
+            assertThat(booking.getItemDto().getOwnerId()).isEqualTo(userOwner.getId());
+            assertThat(booking.getBookerDto().getName()).isEqualTo("Test User Booker");
+        });
+        assertThat(ownerBookings).hasSize(3);
+        assertThat(bookerStatements).isEqualTo(1);
+        assertThat(ownerStatements).isEqualTo(1);
+    }
+
+    @Test
+    void testExistsFinishedApprovedBookingOfItem() {
+        //given
+        User userBooker = createUser("user_booker@gmail.com", "Test User Booker");
+        User userOwner = createUser("user_owner@gmail.com", "User Owner");
+        Item item = createItem(userOwner, "Test Item", "Item Description");
+        Item otherItem = createItem(userOwner, "Other Item", "Item Description");
+        LocalDateTime now = LocalDateTime.now();
+        createBooking(userBooker, item, now.minusDays(3), now.minusDays(2), BookingStatus.REJECTED);
+        createBooking(userBooker, item, now.minusDays(1), now.plusDays(1), BookingStatus.APPROVED);
+        createBooking(userBooker, otherItem, now.minusDays(3), now.minusDays(2), BookingStatus.APPROVED);
+
+        //that
+        boolean exists = bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndDateBefore(userBooker.getId(),
+                item.getId(), BookingStatus.APPROVED, now);
+        boolean existsForOtherItem = bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndDateBefore(
+                userBooker.getId(), otherItem.getId(), BookingStatus.APPROVED, now);
+
+        //then
+        assertThat(exists).isFalse();
+        assertThat(existsForOtherItem).isTrue();
+    }
+
     private User createUser(String email, String name) {
         User user = new User();
         user.setEmail(email);
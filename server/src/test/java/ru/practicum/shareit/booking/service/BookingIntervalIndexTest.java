@@ -0,0 +1,146 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingIntervalIndexTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private BookingIntervalIndex bookingIntervalIndex;
+
+    private LocalDateTime start;
+    private Item item;
+    private User booker;
+
+    @BeforeEach
+    void setUp() {
+        start = LocalDateTime.now().plusDays(1);
+        booker = new User(2L, "User Booker", "user_booker@gmail.com");
+        item = new Item(1L, "Item", "Description", true, new User(1L, "User", "user@gmail.com"), null);
+    }
+
+    @Test
+    void afterSingletonsInstantiated_shouldIndexActiveBookings() {
+        when(bookingRepository.findAllByStatusInAndEndDateAfter(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(makeBooking(1L, start, start.plusDays(2))));
+
+        bookingIntervalIndex.afterSingletonsInstantiated();
+
+        assertTrue(bookingIntervalIndex.overlaps(item.getId(), start.plusDays(1), start.plusDays(3)));
+        assertFalse(bookingIntervalIndex.overlaps(item.getId(), start.plusDays(2), start.plusDays(3)));
+        assertFalse(bookingIntervalIndex.overlaps(2L, start, start.plusDays(2)));
+    }
+
+    @Test
+    void add_shouldRejectOverlappingPeriod_whenItemIsBooked() {
+        assertTrue(bookingIntervalIndex.add(makeBooking(1L, start, start.plusDays(2))));
+
+        assertFalse(bookingIntervalIndex.add(makeBooking(2L, start.minusDays(1), start.plusHours(1))));
+        assertFalse(bookingIntervalIndex.add(makeBooking(3L, start.plusHours(1), start.plusHours(2))));
+        assertTrue(bookingIntervalIndex.add(makeBooking(4L, start.minusDays(1), start)));
+        assertTrue(bookingIntervalIndex.add(makeBooking(5L, start.plusDays(2), start.plusDays(3))));
+    }
+
+    @Test
+    void add_shouldAcceptSameBookingTwice_whenBookingIsApproved() {
+        Booking booking = makeBooking(1L, start, start.plusDays(2));
+
+        assertTrue(bookingIntervalIndex.add(booking));
+        assertTrue(bookingIntervalIndex.add(booking));
+    }
+
+    @Test
+    void remove_shouldFreePeriod_whenBookingIsRejected() {
+        Booking booking = makeBooking(1L, start, start.plusDays(2));
+        bookingIntervalIndex.add(booking);
+
+        bookingIntervalIndex.remove(booking);
+
+        assertFalse(bookingIntervalIndex.overlaps(item.getId(), start, start.plusDays(2)));
+    }
+
+    @Test
+    void add_shouldDropEndedPeriods_whenItemIsLookedAt() {
+        Booking ended = makeBooking(1L, start.minusDays(3), start.minusDays(2));
+        Booking active = makeBooking(2L, start, start.plusDays(2));
+        bookingIntervalIndex.add(ended);
+        bookingIntervalIndex.add(active);
+
+        bookingIntervalIndex.overlaps(item.getId(), start, start.plusDays(1));
+
+        assertTrue(bookingIntervalIndex.add(makeBooking(3L, ended.getStartDate(), ended.getEndDate())));
+        assertFalse(bookingIntervalIndex.add(makeBooking(4L, start, start.plusDays(1))));
+    }
+
+    @Test
+    void removeEndedBy_shouldKeepPeriodsEndingLater() {
+        BookingIntervalTree tree = new BookingIntervalTree();
+        tree.add(1L, start.minusDays(3), start.minusDays(2));
+        tree.add(2L, start.minusDays(5), start);
+        tree.add(3L, start.minusDays(1), start.plusDays(1));
+
+        tree.removeEndedBy(start);
+
+        assertFalse(tree.contains(1L));
+        assertFalse(tree.contains(2L));
+        assertTrue(tree.contains(3L));
+        assertTrue(tree.overlaps(start, start.plusHours(1)));
+        assertFalse(tree.overlaps(start.minusDays(4), start.minusDays(2)));
+    }
+
+    @Test
+    void overlaps_shouldMatchLinearScan_whenManyPeriodsIndexed() {
+        BookingIntervalTree tree = new BookingIntervalTree();
+        List<LocalDateTime[]> periods = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (long id = 1; id <= 500; id++) {
+            LocalDateTime periodStart = start.plusHours(random.nextInt(5000));
+            LocalDateTime periodEnd = periodStart.plusHours(1 + random.nextInt(48));
+            tree.add(id, periodStart, periodEnd);
+            periods.add(new LocalDateTime[]{periodStart, periodEnd});
+            if (id % 3 == 0) {
+                tree.remove(id);
+                periods.set((int) id - 1, null);
+            }
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            LocalDateTime queryStart = start.plusHours(random.nextInt(5100));
+            LocalDateTime queryEnd = queryStart.plusHours(1 + random.nextInt(24));
+
+            boolean expected = periods.stream()
+                    .anyMatch(p -> p != null && p[0].isBefore(queryEnd) && queryStart.isBefore(p[1]));
+
+            assertEquals(expected, tree.overlaps(queryStart, queryEnd));
+        }
+    }
+
+    private Booking makeBooking(Long id, LocalDateTime startDate, LocalDateTime endDate) {
+        return new Booking(id, item, booker, startDate, endDate, BookingStatus.WAITING);
+    }
+
+}
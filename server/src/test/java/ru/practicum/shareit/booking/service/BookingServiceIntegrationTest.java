@@ -6,15 +6,20 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusResultDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
 import ru.practicum.shareit.exception.EntityNotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.dto.UserDto;
@@ -22,6 +27,7 @@ import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -82,6 +88,26 @@ class BookingServiceIntegrationTest {
                 equalTo(LocalDateTime.parse(bookingDto.getEndDate(), DateTimeFormatter.ISO_LOCAL_DATE_TIME)));
     }
 
+    @Test
+    void addAll_shouldSaveAllBookings_whenBookingsAreValid() {
+        //given
+        ItemDto firstItem = itemService.add(makeItemDto("item_7", "description_7", true, userDto.getId()),
+                userDto.getId());
+        ItemDto secondItem = itemService.add(makeItemDto("item_8", "description_8", true, userDto.getId()),
+                userDto.getId());
+
+        //that
+        List<BookingDto> addedBookings = bookingService.addAll(List.of(getDefaultBooking(firstItem),
+                getDefaultBooking(secondItem)), userBookerDto.getId());
+
+        //then
+        assertThat(addedBookings, hasSize(2));
+        assertThat(addedBookings.get(0).getId(), notNullValue());
+        assertThat(addedBookings.get(1).getId(), not(equalTo(addedBookings.get(0).getId())));
+        assertThat(bookingRepository.findAllById(List.of(addedBookings.get(0).getId(), addedBookings.get(1).getId())),
+                hasSize(2));
+    }
+
     @Test
     void update_shouldUpdate_whenBookingIsValid() {
         //given
@@ -110,6 +136,52 @@ class BookingServiceIntegrationTest {
         assertThat(foundBooking.getStatus(), equalTo(BookingStatus.APPROVED));
     }
 
+    @Test
+    void update_shouldThrowValidationException_whenBookingIsAlreadyApproved() {
+        //given
+        ItemDto itemDto = makeItemDto("item_3", "description_3", true, userDto.getId());
+        ItemDto savedItem = itemService.add(itemDto, userDto.getId());
+        BookingDto addedBooking = bookingService.add(getDefaultBooking(savedItem), userBookerDto.getId());
+        bookingService.updateStatus(addedBooking.getId(), userDto.getId(), true);
+
+        //that
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> bookingService.updateStatus(addedBooking.getId(), userDto.getId(), false));
+
+        //then
+        assertThat(exception.getStatus(), equalTo(HttpStatus.BAD_REQUEST));
+        assertThat(bookingRepository.findById(addedBooking.getId()).orElseThrow().getStatus(),
+                equalTo(BookingStatus.APPROVED));
+    }
+
+    @Test
+    void updateStatuses_shouldApplyDecisionsInOneCall() {
+        //given
+        ItemDto itemDto = makeItemDto("item_6", "description_6", true, userDto.getId());
+        ItemDto savedItem = itemService.add(itemDto, userDto.getId());
+        BookingDto first = bookingService.add(getDefaultBooking(savedItem), userBookerDto.getId());
+        BookingDto second = bookingService.add(BookingDto.builder()
+                .itemId(savedItem.getId())
+                .startDate(LocalDateTime.now().plusDays(5).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .endDate(LocalDateTime.now().plusDays(6).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .build(), userBookerDto.getId());
+
+        //that
+        List<BookingStatusResultDto> results = bookingService.updateStatuses(List.of(
+                BookingStatusUpdateDto.builder().bookingId(first.getId()).approved(true).build(),
+                BookingStatusUpdateDto.builder().bookingId(second.getId()).approved(false).build()),
+                userDto.getId());
+
+        //then
+        assertThat(results, hasSize(2));
+        assertThat(results.get(0).getError(), nullValue());
+        assertThat(results.get(1).getError(), nullValue());
+        assertThat(bookingRepository.findById(first.getId()).orElseThrow().getStatus(),
+                equalTo(BookingStatus.APPROVED));
+        assertThat(bookingRepository.findById(second.getId()).orElseThrow().getStatus(),
+                equalTo(BookingStatus.REJECTED));
+    }
+
     @Test
     void getAll_shouldReturnBookings_whenBookingsExist() {
         //given
@@ -142,11 +214,10 @@ class BookingServiceIntegrationTest {
                 hasProperty("endDate", equalTo(bookingDto2.getEndDate()))
         )));
 
-        List<Booking> foundBookings = bookingRepository.findAllByBookerId(userBookerDto.getId(), PageRequest.of(0, 10));
-        assertThat(foundBookings, hasItem(hasProperty("item",
-                hasProperty("id", equalTo(addedItemDto1.getId())))));
-        assertThat(foundBookings, hasItem(hasProperty("item",
-                hasProperty("id", equalTo(addedItemDto2.getId())))));
+        List<BookingView> foundBookings = bookingRepository.findAllByBookerId(userBookerDto.getId(),
+                PageRequest.of(0, 10));
+        assertThat(foundBookings, hasItem(hasProperty("itemId", equalTo(addedItemDto1.getId()))));
+        assertThat(foundBookings, hasItem(hasProperty("itemId", equalTo(addedItemDto2.getId()))));
 
     }
 
@@ -190,9 +261,10 @@ class BookingServiceIntegrationTest {
     }
 
     private BookingDto getDefaultBooking(ItemDto savedItem) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
         return makeBookingDto(savedItem.getId(), userDto.getId(),
-                LocalDateTime.now().plusDays(1).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-                LocalDateTime.now().plusDays(2).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+                now.plusDays(1).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                now.plusDays(2).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
     }
 
     private ItemDto makeItemDto(String name, String description, Boolean available, Long ownerId) {
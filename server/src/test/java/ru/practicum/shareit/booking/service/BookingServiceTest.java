@@ -7,11 +7,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusResultDto;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
 import ru.practicum.shareit.exception.EntityNotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.ItemRepository;
@@ -25,7 +30,10 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,11 +48,15 @@ class BookingServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private BookingIntervalIndex bookingIntervalIndex;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
     private BookingDto bookingDto;
     private Booking booking;
+    private BookingView bookingView;
     private User user;
     private User userBooker;
     private Item item;
@@ -63,6 +75,7 @@ class BookingServiceTest {
                 .endDate(LocalDateTime.now().plusDays(2).toString())
                 .build();
         booking = BookingMapper.toEntity(bookingDto, item, user);
+        bookingView = makeView(BookingStatus.WAITING);
     }
 
     @Test
@@ -70,11 +83,28 @@ class BookingServiceTest {
         doReturn(Optional.of(user)).when(userRepository).findById(anyLong());
         doReturn(Optional.of(item)).when(itemRepository).findById(anyLong());
         doReturn(booking).when(bookingRepository).save(any(Booking.class));
+        doReturn(true).when(bookingIntervalIndex).add(any(Booking.class));
 
         BookingDto returnedBooking = bookingService.add(bookingDto, userBooker.getId());
 
         assertNotNull(returnedBooking);
         verify(bookingRepository).save(any(Booking.class));
+        verify(bookingIntervalIndex).add(booking);
+    }
+
+    @Test
+    void add_shouldThrowValidationException_whenPeriodOverlaps() {
+        doReturn(Optional.of(user)).when(userRepository).findById(anyLong());
+        doReturn(Optional.of(item)).when(itemRepository).findById(anyLong());
+        doReturn(true).when(bookingIntervalIndex).overlaps(eq(item.getId()), any(LocalDateTime.class),
+                any(LocalDateTime.class));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> bookingService.add(bookingDto, userBooker.getId()));
+
+        assertEquals("Вещь уже забронирована на эти даты", exception.getMessage());
+        assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+        verify(bookingRepository, never()).save(any(Booking.class));
     }
 
     @Test
@@ -103,22 +133,93 @@ class BookingServiceTest {
         verify(bookingRepository, never()).save(any(Booking.class));
     }
 
+    @Test
+    void addAll_shouldLoadUserAndItemsOnceAndSaveAllBookings() {
+        Item otherItem = new Item(2L, "Other item", "Description", true, user, null);
+        BookingDto otherBookingDto = BookingDto.builder()
+                .itemId(otherItem.getId())
+                .startDate(bookingDto.getStartDate())
+                .endDate(bookingDto.getEndDate())
+                .build();
+        doReturn(Optional.of(userBooker)).when(userRepository).findById(userBooker.getId());
+        doReturn(List.of(item, otherItem)).when(itemRepository).findAllById(anyCollection());
+        doAnswer(invocation -> invocation.getArgument(0)).when(bookingRepository).saveAll(anyList());
+        doReturn(true).when(bookingIntervalIndex).add(any(Booking.class));
+
+        List<BookingDto> returnedBookings = bookingService.addAll(List.of(bookingDto, otherBookingDto),
+                userBooker.getId());
+
+        assertEquals(2, returnedBookings.size());
+        assertEquals(BookingStatus.WAITING, returnedBookings.get(0).getStatus());
+        verify(userRepository, times(1)).findById(anyLong());
+        verify(itemRepository, times(1)).findAllById(anyCollection());
+        verify(itemRepository, never()).findById(anyLong());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(bookingIntervalIndex, times(2)).add(any(Booking.class));
+    }
+
+    @Test
+    void addAll_shouldThrowValidationException_whenBookingsOverlapEachOther() {
+        BookingDto overlappingBookingDto = BookingDto.builder()
+                .itemId(item.getId())
+                .startDate(LocalDateTime.now().plusHours(36).toString())
+                .endDate(LocalDateTime.now().plusDays(3).toString())
+                .build();
+        doReturn(Optional.of(userBooker)).when(userRepository).findById(userBooker.getId());
+        doReturn(List.of(item)).when(itemRepository).findAllById(anyCollection());
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> bookingService.addAll(List.of(overlappingBookingDto, bookingDto), userBooker.getId()));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+        verify(bookingRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void addAll_shouldThrowEntityNotFoundException_whenItemDoesNotExist() {
+        doReturn(Optional.of(userBooker)).when(userRepository).findById(userBooker.getId());
+        doReturn(List.of()).when(itemRepository).findAllById(anyCollection());
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> bookingService.addAll(List.of(bookingDto), userBooker.getId()));
+
+        assertEquals("Вещь не найдена: 1", exception.getMessage());
+        verify(bookingRepository, never()).saveAll(anyList());
+    }
+
     @Test
     void updateStatus_shouldUpdateBookingStatus_whenBookingIsValid() {
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        BookingView approvedView = makeView(BookingStatus.APPROVED);
+        when(bookingRepository.updateStatusByOwner(1L, 1L, BookingStatus.WAITING, BookingStatus.APPROVED))
+                .thenReturn(1);
+        when(bookingRepository.findViewById(1L)).thenReturn(Optional.of(approvedView));
+        when(bookingIntervalIndex.add(item.getId(), 1L, approvedView.getStartDate(), approvedView.getEndDate()))
+                .thenReturn(true);
 
         BookingDto result = bookingService.updateStatus(1L, 1L, true);
 
         assertNotNull(result);
         assertEquals(BookingStatus.APPROVED, result.getStatus());
-        verify(bookingRepository).save(any(Booking.class));
+        verify(bookingRepository, never()).findById(anyLong());
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void updateStatus_shouldRemoveFromIndex_whenBookingIsRejected() {
+        when(bookingRepository.updateStatusByOwner(1L, 1L, BookingStatus.WAITING, BookingStatus.REJECTED))
+                .thenReturn(1);
+        when(bookingRepository.findViewById(1L)).thenReturn(Optional.of(makeView(BookingStatus.REJECTED)));
+
+        BookingDto result = bookingService.updateStatus(1L, 1L, false);
+
+        assertEquals(BookingStatus.REJECTED, result.getStatus());
+        verify(bookingIntervalIndex).remove(item.getId(), 1L);
     }
 
     @Test
     void updateStatus_shouldThrowValidationException_whenBookingIsAlreadyApproved() {
         booking.setStatus(BookingStatus.APPROVED);
+        when(bookingRepository.updateStatusByOwner(anyLong(), anyLong(), any(), any())).thenReturn(0);
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
 
@@ -126,7 +227,122 @@ class BookingServiceTest {
                 () -> bookingService.updateStatus(1L, 1L, true));
 
         assertEquals("Уже подтвержден владельцем", exception.getMessage());
-        verify(bookingRepository, never()).save(any(Booking.class));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verify(bookingRepository, never()).findViewById(anyLong());
+        verifyNoInteractions(bookingIntervalIndex);
+    }
+
+    @Test
+    void updateStatus_shouldThrowConflict_whenBookingIsStillWaiting() {
+        booking.setStatus(BookingStatus.WAITING);
+        when(bookingRepository.updateStatusByOwner(anyLong(), anyLong(), any(), any())).thenReturn(0);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> bookingService.updateStatus(1L, 1L, true));
+
+        assertEquals("Бронирование изменено другим запросом", exception.getMessage());
+        assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+        verifyNoInteractions(bookingIntervalIndex);
+    }
+
+    @Test
+    void updateStatus_shouldThrowValidationException_whenUserIsNotOwner() {
+        when(bookingRepository.updateStatusByOwner(anyLong(), anyLong(), any(), any())).thenReturn(0);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(userBooker));
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> bookingService.updateStatus(1L, 2L, true));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+        verifyNoInteractions(bookingIntervalIndex);
+    }
+
+    @Test
+    void updateStatus_shouldThrowEntityNotFoundException_whenBookingDoesNotExist() {
+        when(bookingRepository.updateStatusByOwner(anyLong(), anyLong(), any(), any())).thenReturn(0);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(bookingRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> bookingService.updateStatus(99L, 1L, true));
+    }
+
+    @Test
+    void updateStatuses_shouldUpdateValidBookingsAndReportTheRest() {
+        booking.setStatus(BookingStatus.WAITING);
+        Booking approvedBooking = Booking.builder().id(2L).item(item).booker(userBooker)
+                .startDate(booking.getStartDate()).endDate(booking.getEndDate()).status(BookingStatus.APPROVED).build();
+        Item otherItem = new Item(2L, "Other item", "Description", true, userBooker, null);
+        Booking otherOwnerBooking = Booking.builder().id(3L).item(otherItem).booker(user)
+                .startDate(booking.getStartDate()).endDate(booking.getEndDate()).status(BookingStatus.WAITING).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(bookingRepository.findAllWithItemByIdIn(anyCollection()))
+                .thenReturn(List.of(booking, approvedBooking, otherOwnerBooking));
+        when(bookingRepository.updateStatusesByOwner(List.of(1L), 1L, BookingStatus.WAITING, BookingStatus.APPROVED))
+                .thenReturn(1);
+        when(bookingIntervalIndex.add(booking)).thenReturn(true);
+
+        List<BookingStatusResultDto> results = bookingService.updateStatuses(List.of(
+                BookingStatusUpdateDto.builder().bookingId(1L).approved(true).build(),
+                BookingStatusUpdateDto.builder().bookingId(2L).approved(false).build(),
+                BookingStatusUpdateDto.builder().bookingId(3L).approved(true).build(),
+                BookingStatusUpdateDto.builder().bookingId(4L).approved(true).build()), 1L);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), results.stream().map(BookingStatusResultDto::getBookingId).toList());
+        assertEquals(BookingStatus.APPROVED, results.get(0).getStatus());
+        assertNull(results.get(0).getError());
+        assertEquals("Уже подтвержден владельцем", results.get(1).getError());
+        assertEquals("Не является владельцем вещи", results.get(2).getError());
+        assertEquals("Бронирование не найдено: 4", results.get(3).getError());
+        verify(bookingRepository, times(1)).updateStatusesByOwner(anyCollection(), anyLong(), any(), any());
+        verify(bookingIntervalIndex, never()).remove(any(Booking.class));
+    }
+
+    @Test
+    void updateStatuses_shouldReportOnlySkippedBookings_whenItemBecameUnavailable() {
+        booking.setStatus(BookingStatus.WAITING);
+        Item otherItem = new Item(2L, "Other item", "Description", true, user, null);
+        Booking otherBooking = Booking.builder().id(2L).item(otherItem).booker(userBooker)
+                .startDate(booking.getStartDate()).endDate(booking.getEndDate()).status(BookingStatus.WAITING).build();
+        Item unavailableItem = new Item(2L, "Other item", "Description", false, user, null);
+        Booking skippedBooking = Booking.builder().id(2L).item(unavailableItem).booker(userBooker)
+                .startDate(booking.getStartDate()).endDate(booking.getEndDate()).status(BookingStatus.WAITING).build();
+        Booking approvedBooking = Booking.builder().id(1L).item(item).booker(userBooker)
+                .startDate(booking.getStartDate()).endDate(booking.getEndDate()).status(BookingStatus.APPROVED).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(bookingRepository.findAllWithItemByIdIn(anyCollection()))
+                .thenReturn(List.of(booking, otherBooking))
+                .thenReturn(List.of(approvedBooking, skippedBooking));
+        when(bookingRepository.updateStatusesByOwner(List.of(1L, 2L), 1L, BookingStatus.WAITING,
+                BookingStatus.APPROVED)).thenReturn(1);
+        when(bookingIntervalIndex.add(booking)).thenReturn(true);
+
+        List<BookingStatusResultDto> results = bookingService.updateStatuses(List.of(
+                BookingStatusUpdateDto.builder().bookingId(1L).approved(true).build(),
+                BookingStatusUpdateDto.builder().bookingId(2L).approved(true).build()), 1L);
+
+        assertEquals(BookingStatus.APPROVED, results.get(0).getStatus());
+        assertNull(results.get(0).getError());
+        assertEquals(BookingStatus.WAITING, results.get(1).getStatus());
+        assertEquals("Вещь не доступна для бронирования", results.get(1).getError());
+        verify(bookingIntervalIndex, times(1)).add(any(Booking.class));
+        verify(bookingIntervalIndex, never()).add(skippedBooking);
+    }
+
+    @Test
+    void updateStatuses_shouldThrowValidationException_whenBookingIsRepeated() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> bookingService.updateStatuses(List.of(
+                        BookingStatusUpdateDto.builder().bookingId(1L).approved(true).build(),
+                        BookingStatusUpdateDto.builder().bookingId(1L).approved(false).build()), 1L));
+
+        assertEquals("Бронирование указано несколько раз: 1", exception.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verifyNoInteractions(bookingRepository);
     }
 
     @Test
@@ -156,7 +372,7 @@ class BookingServiceTest {
     @Test
     void getAllByBookerId_shouldReturnBookings_whenStateIsAll() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findAllByBookerId(anyLong(), any(Pageable.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findAllByBookerId(anyLong(), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByBookerId(1L, "ALL", 0, 10);
 
@@ -168,19 +384,19 @@ class BookingServiceTest {
     @Test
     void getAllByBookerId_shouldReturnBookings_whenStateIsCurrent() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findByBookerIdCurrent(anyLong(), any(LocalDateTime.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdCurrent(anyLong(), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByBookerId(1L, "CURRENT", 0, 10);
 
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
-        verify(bookingRepository).findByBookerIdCurrent(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository).findByBookerIdCurrent(anyLong(), any(LocalDateTime.class), any(Pageable.class));
     }
 
     @Test
     void getAllByBookerId_shouldReturnBookings_whenStateIsPast() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findByBookerIdAndEndDateIsBefore(anyLong(), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdAndEndDateIsBefore(anyLong(), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByBookerId(1L, "PAST", 0, 10);
 
@@ -192,7 +408,7 @@ class BookingServiceTest {
     @Test
     void getAllByBookerId_shouldReturnBookings_whenStateIsFuture() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findByBookerIdAndStartDateIsAfter(anyLong(), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdAndStartDateIsAfter(anyLong(), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByBookerId(1L, "FUTURE", 0, 10);
 
@@ -204,7 +420,7 @@ class BookingServiceTest {
     @Test
     void getAllByBookerId_shouldReturnBookings_whenStateIsWaiting() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findByBookerIdAndStatus(anyLong(), eq(BookingStatus.WAITING), any(Pageable.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdAndStatus(anyLong(), eq(BookingStatus.WAITING), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByBookerId(1L, "WAITING", 0, 10);
 
@@ -216,7 +432,7 @@ class BookingServiceTest {
     @Test
     void getAllByBookerId_shouldReturnBookings_whenStateIsRejected() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findByBookerIdAndStatus(anyLong(), eq(BookingStatus.REJECTED), any(Pageable.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdAndStatus(anyLong(), eq(BookingStatus.REJECTED), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByBookerId(1L, "REJECTED", 0, 10);
 
@@ -228,7 +444,7 @@ class BookingServiceTest {
     @Test
     void getAllByOwnerId_shouldReturnBookings_whenStateIsAll() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findAllByItemOwner(anyLong(), any(Pageable.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findAllByItemOwner(anyLong(), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByOwnerId(1L, "ALL", 0, 10);
 
@@ -240,19 +456,19 @@ class BookingServiceTest {
     @Test
     void getAllByOwnerId_shouldReturnBookings_whenStateIsCurrent() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findCurrentBookingsByOwner(anyLong(), any(LocalDateTime.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findCurrentBookingsByOwner(anyLong(), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByOwnerId(1L, "CURRENT", 0, 10);
 
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
-        verify(bookingRepository).findCurrentBookingsByOwner(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository).findCurrentBookingsByOwner(anyLong(), any(LocalDateTime.class), any(Pageable.class));
     }
 
     @Test
     void getAllByOwnerId_shouldReturnBookings_whenStateIsPast() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findByItemOwnerIdAndEndDateIsBefore(anyLong(), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findByItemOwnerIdAndEndDateIsBefore(anyLong(), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByOwnerId(1L, "PAST", 0, 10);
 
@@ -264,7 +480,7 @@ class BookingServiceTest {
     @Test
     void getAllByOwnerId_shouldReturnBookings_whenStateIsFuture() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findByItemOwnerIdAndStartDateIsAfter(anyLong(), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findByItemOwnerIdAndStartDateIsAfter(anyLong(), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByOwnerId(1L, "FUTURE", 0, 10);
 
@@ -276,7 +492,7 @@ class BookingServiceTest {
     @Test
     void getAllByOwnerId_shouldReturnBookings_whenStateIsWaiting() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findByItemOwnerIdAndStatus(anyLong(), eq(BookingStatus.WAITING), any(Pageable.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findByItemOwnerIdAndStatus(anyLong(), eq(BookingStatus.WAITING), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByOwnerId(1L, "WAITING", 0, 10);
 
@@ -288,7 +504,7 @@ class BookingServiceTest {
     @Test
     void getAllByOwnerId_shouldReturnBookings_whenStateIsRejected() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(bookingRepository.findByItemOwnerIdAndStatus(anyLong(), eq(BookingStatus.REJECTED), any(Pageable.class))).thenReturn(List.of(booking));
+        when(bookingRepository.findByItemOwnerIdAndStatus(anyLong(), eq(BookingStatus.REJECTED), any(Pageable.class))).thenReturn(List.of(bookingView));
 
         List<BookingDto> bookings = bookingService.getAllByOwnerId(1L, "REJECTED", 0, 10);
 
@@ -317,4 +533,48 @@ class BookingServiceTest {
         assertEquals("Неверный индекс страницы", exception.getMessage());
     }
 
+    @Test
+    void getAllByBookerIdAfterCursor_shouldPassCursorToRepository_whenCursorIsValid() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.now(), 10L);
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(bookingRepository.findPastByBookerIdAfterCursor(eq(1L), any(LocalDateTime.class),
+                eq(cursor.getStartDate()), eq(10L), any(Pageable.class))).thenReturn(List.of(bookingView));
+
+        List<BookingDto> bookings = bookingService.getAllByBookerIdAfterCursor(1L, "PAST", cursor.encode(), 10);
+
+        assertEquals(1, bookings.size());
+        verify(bookingRepository).findPastByBookerIdAfterCursor(eq(1L), any(LocalDateTime.class),
+                eq(cursor.getStartDate()), eq(10L), any(Pageable.class));
+    }
+
+    @Test
+    void getAllByOwnerIdAfterCursor_shouldPassCursorToRepository_whenCursorIsValid() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.now(), 10L);
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(bookingRepository.findByItemOwnerAndStatusAfterCursor(eq(1L), eq(BookingStatus.WAITING),
+                eq(cursor.getStartDate()), eq(10L), any(Pageable.class))).thenReturn(List.of(bookingView));
+
+        List<BookingDto> bookings = bookingService.getAllByOwnerIdAfterCursor(1L, "WAITING", cursor.encode(), 10);
+
+        assertEquals(1, bookings.size());
+        verify(bookingRepository).findByItemOwnerAndStatusAfterCursor(eq(1L), eq(BookingStatus.WAITING),
+                eq(cursor.getStartDate()), eq(10L), any(Pageable.class));
+    }
+
+    @Test
+    void getAllByBookerIdAfterCursor_shouldThrowValidationException_whenCursorIsInvalid() {
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> bookingService.getAllByBookerIdAfterCursor(1L, "ALL", "not-a-cursor", 10));
+
+        assertEquals("Неверный курсор страницы: not-a-cursor", exception.getMessage());
+    }
+
+    private BookingView makeView(BookingStatus status) {
+        return new BookingView(1L, booking.getStartDate(), booking.getEndDate(), status,
+                item.getId(), item.getName(), item.getDescription(), item.getAvailable(), user.getId(), null,
+                userBooker.getId(), userBooker.getName(), userBooker.getEmail());
+    }
+
 }
@@ -0,0 +1,93 @@
+package ru.practicum.shareit.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class ConnectionLimitingDataSourceTest {
+
+    private DataSource targetDataSource;
+    private ConnectionLimitingDataSource dataSource;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        when(targetDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, 2, Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource.bindTo(meterRegistry);
+    }
+
+    @Test
+    void getConnection_shouldThrowTransientException_whenAllPermitsAreTaken() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        verify(targetDataSource, times(2)).getConnection();
+        assertEquals(0, available());
+    }
+
+    @Test
+    void close_shouldReleasePermitOnce_whenConnectionIsClosedTwice() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(2, available());
+        dataSource.getConnection();
+        dataSource.getConnection();
+        assertEquals(0, available());
+    }
+
+    @Test
+    void getConnection_shouldReleasePermit_whenTargetFails() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool is closed"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertEquals(2, available());
+    }
+
+    @Test
+    void getConnection_shouldDelegateCalls_whenConnectionIsWrapped() throws SQLException {
+        Connection target = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(target);
+
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        connection.close();
+
+        verify(target).setAutoCommit(false);
+        verify(target).close();
+    }
+
+    @Test
+    void close_shouldReleasePermit_whenConnectionIsUnwrapped() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        assertTrue(connection.isWrapperFor(Connection.class));
+        connection.unwrap(Connection.class).close();
+
+        assertEquals(2, available());
+    }
+
+    private double available() {
+        return meterRegistry.get("jdbc.limiter.available").gauge().value();
+    }
+
+}
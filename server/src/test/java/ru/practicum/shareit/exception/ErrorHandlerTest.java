@@ -1,12 +1,19 @@
 package ru.practicum.shareit.exception;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
 import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 
 import java.sql.SQLException;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class ErrorHandlerTest {
@@ -28,6 +35,20 @@ class ErrorHandlerTest {
         assertEquals("Validation error", response.getBody().getError());
     }
 
+    @Test
+    void handleMethodConstraintViolation() {
+        Set<ConstraintViolation<BookingStatusUpdateDto>> violations;
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            violations = validatorFactory.getValidator().validate(BookingStatusUpdateDto.builder().bookingId(1L).build());
+        }
+
+        ResponseEntity<ErrorResponse> response = errorHandler.handleMethodConstraintViolation(
+                new jakarta.validation.ConstraintViolationException(violations));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("{approved=Решение по бронированию является обязательным полем}", response.getBody().getError());
+    }
+
     @Test
     void handleEntityNotFoundException() {
         EntityNotFoundException exception = new EntityNotFoundException("Entity not found");
@@ -59,6 +80,43 @@ class ErrorHandlerTest {
         assertEquals("Constraint violation", response.getBody().getError());
     }
 
+    @Test
+    void handleDataIntegrityViolationExceptionForBookingOverlap() {
+        SQLException sqlException = new SQLException(
+                "conflicting key value violates exclusion constraint \"bookings_approved_no_overlap\"", "23P01");
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, null));
+
+        ResponseEntity<ErrorResponse> response = errorHandler.handleDataIntegrityViolationException(exception);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Вещь уже забронирована на эти даты", response.getBody().getError());
+    }
+
+    @Test
+    void handleDataIntegrityViolationExceptionForOtherConstraint() {
+        SQLException sqlException = new SQLException(
+                "duplicate key value violates unique constraint \"uq_user_email\"", "23505");
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, "uq_user_email"));
+
+        ResponseEntity<ErrorResponse> response = errorHandler.handleDataIntegrityViolationException(exception);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(sqlException.getMessage(), response.getBody().getError());
+    }
+
+    @Test
+    void handleDataIntegrityViolationExceptionWithoutSqlDetails() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("value too long for type character varying(255)", "22001"));
+
+        ResponseEntity<ErrorResponse> response = errorHandler.handleDataIntegrityViolationException(exception);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertEquals("Нарушение целостности данных", response.getBody().getError());
+    }
+
     @Test
     void handleIllegalArgumentException() {
         IllegalArgumentException exception = new IllegalArgumentException("Illegal argument");
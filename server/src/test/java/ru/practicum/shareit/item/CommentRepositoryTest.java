@@ -63,4 +63,15 @@ class CommentRepositoryTest {
         assertThat(foundComment.getAuthor().getName()).isEqualTo("Test User");
     }
 
+    @Test
+    void testFindAllByItemIdIn() {
+        List<Comment> comments = commentRepository.findAllByItemIdIn(List.of(item.getId(), 999L));
+        assertThat(comments).hasSize(1);
+
+        Comment foundComment = comments.get(0);
+        assertThat(foundComment.getText()).isEqualTo("Полезная вещь!");
+        assertThat(foundComment.getItem().getId()).isEqualTo(item.getId());
+        assertThat(foundComment.getAuthor().getName()).isEqualTo("Test User");
+    }
+
 }
@@ -16,6 +16,7 @@ import ru.practicum.shareit.exception.EntityNotFoundException;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemForOwnerDto;
+import ru.practicum.shareit.item.dto.ItemSuggestionDto;
 import ru.practicum.shareit.item.service.ItemService;
 
 import java.util.List;
@@ -180,7 +181,7 @@ class ItemControllerTest {
 
     @Test
     void getItemsByText_shouldReturnItems_whenItemsMatchText() throws Exception {
-        when(itemServiceMock.getItemsByText(anyString(), anyInt(), anyInt()))
+        when(itemServiceMock.getItemsByText(anyString(), anyInt(), anyInt(), eq(false)))
                 .thenReturn(List.of(itemDto));
 
         mockMvc.perform(get("/items/search")
@@ -196,6 +197,20 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[0].available").value(itemDto.getAvailable()));
     }
 
+    @Test
+    void getSuggestions_shouldReturnSuggestions_whenPrefixIsGiven() throws Exception {
+        when(itemServiceMock.getSuggestions("It", 5))
+                .thenReturn(List.of(ItemSuggestionDto.builder().id(1L).name("Item").build()));
+
+        mockMvc.perform(get("/items/suggest")
+                        .param("prefix", "It")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].name").value("Item"));
+    }
+
     @Test
     void addComment_shouldReturnComment_whenCommentIsValid() throws Exception {
         when(itemServiceMock.addComment(any(CommentDto.class), anyLong(), anyLong()))
@@ -88,6 +88,22 @@ class ItemRepositoryTest {
         assertThat(foundItem2.getAvailable()).isTrue();
     }
 
+    @Test
+    void testFindByTextOrderByNameMatch() {
+        //given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        User user = createUser("user_owner@gmail.com", "Owner User");
+        Item inDescription = createItem(user, "Screwdriver", "Works like a drill", null);
+        Item inName = createItem(user, "Cordless drill", "Battery powered", null);
+
+        //that
+        List<Item> items = itemRepository.findByTextOrderByNameMatch("drill", pageable);
+
+        //then
+        assertThat(items).extracting(Item::getId).containsExactly(inName.getId(), inDescription.getId());
+    }
+
     @Test
     void testFindAllByRequestId() {
         //given
@@ -104,6 +120,27 @@ class ItemRepositoryTest {
         assertThat(items.get(0).getName()).isEqualTo("Test Item 1");
     }
 
+    @Test
+    void testFindAllByRequestIdIn() {
+        //given
+        Sort sort = Sort.by(Sort.Direction.ASC, "id");
+        User user = createUser("user_owner@gmail.com", "Owner User");
+        Request firstRequest = createRequest(user);
+        Request secondRequest = createRequest(user);
+        Request otherRequest = createRequest(user);
+        createItem(user, "Test Item 1", "Description for test item 1", firstRequest);
+        createItem(user, "Test Item 2", "Description for test item 2", secondRequest);
+        createItem(user, "Test Item 3", "Description for test item 3", otherRequest);
+        createItem(user, "Test Item 4", "Description for test item 4", null);
+
+        //that
+        List<Item> items = itemRepository.findAllByRequestIdIn(List.of(firstRequest.getId(), secondRequest.getId()),
+                sort);
+
+        //then
+        assertThat(items).extracting(Item::getName).containsExactly("Test Item 1", "Test Item 2");
+    }
+
     private User createUser(String email, String name) {
         User user = new User();
         user.setEmail(email);
@@ -0,0 +1,84 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseItemSearchTest {
+
+    private final Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.ASC, "id"));
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Test
+    void search_shouldUseLikeQuery_whenFullTextIsDisabled() {
+        DatabaseItemSearch itemSearch = new DatabaseItemSearch(itemRepository, false);
+        when(itemRepository.findByText("Дрель", pageable)).thenReturn(List.of(new Item()));
+
+        List<Item> items = itemSearch.search("Дрель", pageable, false);
+
+        assertEquals(1, items.size());
+        verify(itemRepository).findByText("Дрель", pageable);
+    }
+
+    @Test
+    void search_shouldOrderByNameMatch_whenFullTextIsDisabledAndByRelevance() {
+        DatabaseItemSearch itemSearch = new DatabaseItemSearch(itemRepository, false);
+
+        itemSearch.search("Дрель", pageable, true);
+
+        verify(itemRepository).findByTextOrderByNameMatch("Дрель", pageable);
+    }
+
+    @Test
+    void search_shouldUsePrefixFullTextQuery_whenFullTextIsEnabled() {
+        DatabaseItemSearch itemSearch = new DatabaseItemSearch(itemRepository, true);
+
+        itemSearch.search("Дрель акку", pageable, false);
+
+        verify(itemRepository).findByFullText("дрель:* & акку:*", PageRequest.of(1, 10));
+    }
+
+    @Test
+    void search_shouldOrderByRank_whenFullTextIsEnabledAndByRelevance() {
+        DatabaseItemSearch itemSearch = new DatabaseItemSearch(itemRepository, true);
+
+        itemSearch.search("дрель", pageable, true);
+
+        verify(itemRepository).findByFullTextOrderByRank(eq("дрель:*"), any(Pageable.class));
+    }
+
+    @Test
+    void search_shouldReturnEmptyList_whenTextHasNoWords() {
+        DatabaseItemSearch itemSearch = new DatabaseItemSearch(itemRepository, true);
+
+        List<Item> items = itemSearch.search(" !&:* ", pageable, false);
+
+        assertTrue(items.isEmpty());
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void toPrefixQuery_shouldKeepOnlyLettersAndDigits() {
+        assertEquals("drill:* & 18v:*", DatabaseItemSearch.toPrefixQuery("Drill' | 18V:*"));
+    }
+
+}
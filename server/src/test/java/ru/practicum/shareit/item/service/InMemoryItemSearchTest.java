@@ -0,0 +1,151 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryItemSearchTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @InjectMocks
+    private InMemoryItemSearch itemSearch;
+
+    private User owner;
+    private Item drill;
+    private Item screwdriver;
+    private Item hammer;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User(1L, "User", "user@gmail.com");
+        drill = makeItem(1L, "Drill", "Cordless, 18V", true);
+        screwdriver = makeItem(2L, "Screwdriver", "Works like a drill", true);
+        hammer = makeItem(3L, "Hammer", "Heavy", true);
+
+        when(itemRepository.findAllByAvailableTrue()).thenReturn(List.of(drill, screwdriver, hammer));
+        itemSearch.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void search_shouldLoadOnlyPageItems_whenItemsMatch() {
+        when(itemRepository.findAllById(List.of(2L))).thenReturn(List.of(screwdriver));
+
+        List<Item> items = itemSearch.search("DRI", PageRequest.of(1, 1), false);
+
+        assertEquals(List.of(screwdriver), items);
+        verify(itemRepository).findAllById(List.of(2L));
+    }
+
+    @Test
+    void afterSingletonsInstantiated_shouldKeepItemsIndexedBeforeLoad() {
+        Item saw = makeItem(4L, "Saw", "Sharp", true);
+        itemSearch.index(saw);
+
+        itemSearch.afterSingletonsInstantiated();
+        when(itemRepository.findAllById(List.of(4L))).thenReturn(List.of(saw));
+
+        assertEquals(List.of(saw), itemSearch.search("saw", PageRequest.of(0, 10), false));
+    }
+
+    @Test
+    void search_shouldMatchEveryWordPrefix_whenTextHasSeveralWords() {
+        when(itemRepository.findAllById(List.of(1L))).thenReturn(List.of(drill));
+
+        assertEquals(List.of(drill), itemSearch.search("drill cord", PageRequest.of(0, 10), false));
+    }
+
+    @Test
+    void search_shouldPutNameMatchesFirst_whenByRelevance() {
+        when(itemRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(screwdriver, drill));
+
+        List<Item> items = itemSearch.search("drill", PageRequest.of(0, 10), true);
+
+        assertEquals(List.of(drill, screwdriver), items);
+    }
+
+    @Test
+    void search_shouldRankByFieldTermFrequencyAndLength_whenByRelevance() {
+        Item saw = makeItem(4L, "Saw", "Drill bit, drill stand, drill case", true);
+        Item stand = makeItem(5L, "Stand", "Drill stand", true);
+        itemSearch.index(saw);
+        itemSearch.index(stand);
+        when(itemRepository.findAllById(List.of(1L, 4L, 5L, 2L))).thenReturn(List.of(drill, screwdriver, saw, stand));
+
+        List<Item> items = itemSearch.search("drill", PageRequest.of(0, 10), true);
+
+        assertEquals(List.of(drill, saw, stand, screwdriver), items);
+    }
+
+    @Test
+    void search_shouldBreakTiesById_whenScoresAreEqual() {
+        itemSearch.index(makeItem(4L, "Hammer", "Heavy", true));
+        when(itemRepository.findAllById(List.of(4L))).thenReturn(List.of(hammer));
+
+        itemSearch.search("hammer", PageRequest.of(1, 1), true);
+
+        verify(itemRepository).findAllById(List.of(4L));
+    }
+
+    @Test
+    void search_shouldReturnRankedPage_whenPageIsNotFirst() {
+        when(itemRepository.findAllById(List.of(2L))).thenReturn(List.of(screwdriver));
+
+        List<Item> items = itemSearch.search("drill", PageRequest.of(1, 1), true);
+
+        assertEquals(List.of(screwdriver), items);
+    }
+
+    @Test
+    void search_shouldNotQueryDatabase_whenNothingMatches() {
+        assertTrue(itemSearch.search("saw", PageRequest.of(0, 10), false).isEmpty());
+        assertTrue(itemSearch.search(" ,. ", PageRequest.of(0, 10), false).isEmpty());
+
+        verify(itemRepository).findAllByAvailableTrue();
+        verifyNoMoreInteractions(itemRepository);
+    }
+
+    @Test
+    void index_shouldUpdateTokens_whenItemIsChanged() {
+        hammer.setName("Sledgehammer");
+        itemSearch.index(hammer);
+        itemSearch.index(makeItem(4L, "Saw", "Hand saw", true));
+        when(itemRepository.findAllById(anyIterable())).thenReturn(List.of(hammer));
+
+        assertTrue(itemSearch.search("hammer", PageRequest.of(0, 10), false).isEmpty());
+        assertEquals(List.of(hammer), itemSearch.search("sledge", PageRequest.of(0, 10), false));
+        verify(itemRepository).findAllById(List.of(3L));
+    }
+
+    @Test
+    void index_shouldRemoveItem_whenItemBecomesUnavailable() {
+        drill.setAvailable(false);
+        itemSearch.index(drill);
+        when(itemRepository.findAllById(List.of(2L))).thenReturn(List.of(screwdriver));
+
+        assertEquals(List.of(screwdriver), itemSearch.search("drill", PageRequest.of(0, 10), false));
+    }
+
+    private Item makeItem(Long id, String name, String description, boolean available) {
+        return new Item(id, name, description, available, owner, null);
+    }
+
+}
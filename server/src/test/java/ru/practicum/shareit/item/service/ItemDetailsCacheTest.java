@@ -0,0 +1,106 @@
+package ru.practicum.shareit.item.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemForOwnerDto;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ItemDetailsCacheTest {
+
+    private ItemDetailsCache itemDetailsCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        itemDetailsCache = new ItemDetailsCache(10, new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_shouldReturnNewDtoWithoutBookings_whenItemIsCached() {
+        ItemForOwnerDto first = itemDetailsCache.get(1L, loader(1L));
+        first.setLastBooking(BookingShortDto.builder().id(1L).build());
+
+        ItemForOwnerDto second = itemDetailsCache.get(1L, loader(1L));
+
+        assertEquals(1, loads.get());
+        assertNull(second.getLastBooking());
+        assertEquals("Item 1", second.getName());
+        assertEquals(1, second.getComments().size());
+    }
+
+    @Test
+    void evict_shouldReloadOnlyEvictedItem_whenItemChanges() {
+        itemDetailsCache.get(1L, loader(1L));
+        itemDetailsCache.get(2L, loader(2L));
+
+        itemDetailsCache.evict(1L);
+        itemDetailsCache.get(1L, loader(1L));
+        itemDetailsCache.get(2L, loader(2L));
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void get_shouldNotStoreDetails_whenItemChangedWhileLoading() {
+        itemDetailsCache.get(1L, () -> {
+            itemDetailsCache.evict(1L);
+            return loader(1L).get();
+        });
+
+        itemDetailsCache.get(1L, loader(1L));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_shouldNotExposeCachedComments_whenDtoIsChanged() {
+        ItemForOwnerDto first = itemDetailsCache.get(1L, loader(1L));
+        first.getComments().get(0).setText("Changed");
+        first.getComments().add(CommentDto.builder().id(2L).text("Added").build());
+
+        ItemForOwnerDto second = itemDetailsCache.get(1L, loader(1L));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, second.getComments().size());
+        assertEquals("Great item!", second.getComments().get(0).getText());
+    }
+
+    @Test
+    void evictCommentedBy_shouldReloadOnlyItemsWithCommentsOfAuthor() {
+        itemDetailsCache.get(1L, loader(1L));
+        itemDetailsCache.get(2L, () -> {
+            loads.incrementAndGet();
+            return ItemForOwnerDto.builder().id(2L).name("Item 2").comments(List.of()).build();
+        });
+
+        itemDetailsCache.evictCommentedBy("Author");
+        itemDetailsCache.get(1L, loader(1L));
+        itemDetailsCache.get(2L, loader(2L));
+
+        assertEquals(3, loads.get());
+    }
+
+    private Supplier<ItemForOwnerDto> loader(Long itemId) {
+        return () -> {
+            loads.incrementAndGet();
+            return ItemForOwnerDto.builder()
+                    .id(itemId)
+                    .name("Item " + itemId)
+                    .description("Description")
+                    .available(true)
+                    .ownerId(1L)
+                    .comments(List.of(CommentDto.builder().id(1L).authorName("Author").text("Great item!").build()))
+                    .build();
+        };
+    }
+
+}
@@ -0,0 +1,102 @@
+package ru.practicum.shareit.item.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ItemSearchCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private ItemSearchCache itemSearchCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        itemSearchCache = new ItemSearchCache(2, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_shouldLoadOnce_whenQueryDiffersOnlyInCase() {
+        itemSearchCache.get("Дрель", 0, 10, false, loader("Дрель"));
+        List<ItemDto> page = itemSearchCache.get("дРЕЛЬ", 0, 10, false, loader("Дрель"));
+
+        assertEquals("Дрель", page.get(0).getName());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void get_shouldLoadAgain_whenPageOrOrderDiffers() {
+        itemSearchCache.get("дрель", 0, 10, false, loader("Дрель"));
+        itemSearchCache.get("дрель", 10, 10, false, loader("Дрель"));
+        itemSearchCache.get("дрель", 0, 10, true, loader("Дрель"));
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsed_whenCacheIsFull() {
+        itemSearchCache.get("дрель", 0, 10, false, loader("Дрель"));
+        itemSearchCache.get("палатка", 0, 10, false, loader("Палатка"));
+        itemSearchCache.get("дрель", 0, 10, false, loader("Дрель"));
+        itemSearchCache.get("пила", 0, 10, false, loader("Пила"));
+
+        itemSearchCache.get("дрель", 0, 10, false, loader("Дрель"));
+        itemSearchCache.get("палатка", 0, 10, false, loader("Палатка"));
+
+        assertEquals(4, loads.get());
+        assertEquals(2.0, meterRegistry.get("cache.evictions").functionCounter().count());
+    }
+
+    @Test
+    void evictMatching_shouldEvictOnlyMatchingQueries_whenItemChanges() {
+        itemSearchCache.get("дрель", 0, 10, false, loader("Дрель"));
+        itemSearchCache.get("палатка", 0, 10, false, loader("Палатка"));
+
+        itemSearchCache.evictMatching(List.of("Аккумуляторная дрель", "Легкая, 18V"));
+
+        itemSearchCache.get("дрель", 0, 10, false, loader("Дрель"));
+        itemSearchCache.get("палатка", 0, 10, false, loader("Палатка"));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evictMatching_shouldEvictWordPrefixQueries_whenWordsAreNotAdjacent() {
+        itemSearchCache.get("дрель акку", 0, 10, false, loader("Дрель"));
+
+        itemSearchCache.evictMatching(List.of("Аккумуляторная дрель"));
+
+        itemSearchCache.get("дрель акку", 0, 10, false, loader("Дрель"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_shouldNotStorePage_whenItemChangedWhileLoading() {
+        itemSearchCache.get("палатка", 0, 10, false, () -> {
+            itemSearchCache.evictMatching(List.of("Дрель"));
+            return loader("Палатка").get();
+        });
+
+        itemSearchCache.get("палатка", 0, 10, false, loader("Палатка"));
+        assertEquals(2, loads.get());
+    }
+
+    private Supplier<List<ItemDto>> loader(String name) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(ItemDto.builder().name(name).build());
+        };
+    }
+
+}
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The in-memory index must return the same pages as the SQL search, ranked search - the same items.
+ * Queries are word beginnings, where word prefix and substring matching agree.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ItemSearchConsistencyTest {
+
+    private static final List<String> QUERIES = List.of("drill", "DRILL", "screw", "cordless", "heavy", "hand",
+            "old", "saw", "nothing");
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private DatabaseItemSearch databaseItemSearch;
+    private InMemoryItemSearch inMemoryItemSearch;
+
+    @BeforeEach
+    void setUp() {
+        //given
+        User user = userRepository.save(new User(null, "Owner User", "user_owner@gmail.com"));
+        createItem(user, "Drill", "Cordless drill", true);
+        createItem(user, "Screwdriver", "Works like a drill", true);
+        createItem(user, "Hammer", "Heavy hammer", true);
+        createItem(user, "Hand saw", "Saw for wood", true);
+        createItem(user, "Old drill", "Broken", false);
+        createItem(user, "Screws", "Box of screws for a drill", true);
+
+        databaseItemSearch = new DatabaseItemSearch(itemRepository, false);
+        inMemoryItemSearch = new InMemoryItemSearch(itemRepository);
+        inMemoryItemSearch.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void testSearchMatchesSqlSearch() {
+        for (String query : QUERIES) {
+            for (int page = 0; page < 3; page++) {
+                //that
+                Pageable pageable = PageRequest.of(page, 2, Sort.by(Sort.Direction.ASC, "id"));
+                List<Item> expected = databaseItemSearch.search(query, pageable, false);
+                List<Item> actual = inMemoryItemSearch.search(query, pageable, false);
+
+                //then
+                assertThat(actual)
+                        .as("query '%s', page %d", query, page)
+                        .extracting(Item::getId)
+                        .containsExactlyElementsOf(expected.stream().map(Item::getId).toList());
+            }
+        }
+    }
+
+    @Test
+    void testRankedSearchFindsSameItemsAsSqlSearch() {
+        for (String query : QUERIES) {
+            //that
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id"));
+            List<Item> expected = databaseItemSearch.search(query, pageable, true);
+            List<Item> actual = inMemoryItemSearch.search(query, pageable, true);
+
+            //then
+            assertThat(actual)
+                    .as("query '%s'", query)
+                    .extracting(Item::getId)
+                    .containsExactlyInAnyOrderElementsOf(expected.stream().map(Item::getId).toList());
+        }
+    }
+
+    private void createItem(User user, String name, String description, boolean available) {
+        Item item = new Item();
+        item.setOwner(user);
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(available);
+        itemRepository.save(item);
+    }
+
+}
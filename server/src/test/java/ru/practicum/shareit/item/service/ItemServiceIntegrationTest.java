@@ -6,14 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.shareit.booking.dto.BookingDto;
-import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
-import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.exception.EntityNotFoundException;
 import ru.practicum.shareit.item.CommentRepository;
 import ru.practicum.shareit.item.ItemRepository;
@@ -22,17 +20,16 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemForOwnerDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.when;
 
 @Transactional
 @Rollback(value = true)
@@ -42,15 +39,14 @@ import static org.mockito.Mockito.when;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class ItemServiceIntegrationTest {
 
-    @MockBean
-    private BookingService bookingService;
-
     @InjectMocks
     private final ItemService itemService;
 
     private final UserService userService;
     private final ItemRepository itemRepository;
     private final CommentRepository commentRepository;
+    private final BookingRepository bookingRepository;
+    private final UserRepository userRepository;
 
     private UserDto userDto;
 
@@ -179,17 +175,11 @@ class ItemServiceIntegrationTest {
         ItemDto itemDto = makeItemDto("item_7", "description_7", true);
         ItemDto savedItem = itemService.add(itemDto, userDto.getId());
 
-        BookingDto bookingDto = BookingDto.builder()
-                .itemId(savedItem.getId())
-                .startDate(LocalDateTime.now().minusDays(1).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
-                .endDate(LocalDateTime.now().minusHours(1).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
-                .status(BookingStatus.APPROVED)
-                .build();
-
         UserDto userBookerDto = userService.add(makeUserDto("user_2", "user_2@gmail.com"));
 
-        when(bookingService.getAllByBookerId(userBookerDto.getId(), BookingState.PAST.name(), 0, 100))
-                .thenReturn(List.of(bookingDto));
+        bookingRepository.save(new Booking(null, itemRepository.getReferenceById(savedItem.getId()),
+                userRepository.getReferenceById(userBookerDto.getId()), LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().minusHours(1), BookingStatus.APPROVED));
         CommentDto commentDto = CommentDto.builder()
                 .text("Отличная вещь!")
                 .build();
@@ -1,33 +1,36 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.booking.BookingRepository;
-import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
-import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.CommentRepository;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSuggestionDto;
 import ru.practicum.shareit.item.dto.ItemForOwnerDto;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -50,7 +53,16 @@ class ItemServiceTest {
     private CommentRepository commentRepository;
 
     @Mock
-    private BookingService bookingService;
+    private ItemSearch itemSearch;
+
+    @Mock
+    private ItemSuggestions itemSuggestions;
+
+    @Spy
+    private ItemSearchCache itemSearchCache = new ItemSearchCache(100, new SimpleMeterRegistry());
+
+    @Spy
+    private ItemDetailsCache itemDetailsCache = new ItemDetailsCache(100, new SimpleMeterRegistry());
 
     @InjectMocks
     private ItemServiceImpl itemService;
@@ -81,6 +93,8 @@ class ItemServiceTest {
 
         assertNotNull(returnedItem);
         verify(itemRepository).save(any(Item.class));
+        verify(itemSearch).index(item);
+        verify(itemSuggestions).index(item);
     }
 
     @Test
@@ -113,19 +127,38 @@ class ItemServiceTest {
     void getItemsByOwnerId_shouldReturnItems_whenItemsExist() {
         when(itemRepository.findAllByOwnerId(anyLong(), any(Pageable.class))).thenReturn(List.of(item));
 
-        List<Booking> bookings = List.of(
-                new Booking(1L, item, user, LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1), BookingStatus.APPROVED),
-                new Booking(2L, item, user, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), BookingStatus.APPROVED)
-        );
+        Booking lastBooking = new Booking(1L, item, user, LocalDateTime.now().minusDays(2),
+                LocalDateTime.now().minusDays(1), BookingStatus.APPROVED);
+        Booking nextBooking = new Booking(2L, item, user, LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2), BookingStatus.APPROVED);
+        Comment comment = new Comment(1L, item, user, LocalDateTime.now(), "Great item!");
 
-        when(bookingRepository.findAllByItemId(anyLong(), any(Sort.class))).thenReturn(bookings);
+        when(bookingRepository.findLastBookingsByItemIds(anyCollection(), eq(BookingStatus.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(lastBooking));
+        when(bookingRepository.findNextBookingsByItemIds(anyCollection(), eq(BookingStatus.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(nextBooking));
+        when(commentRepository.findAllByItemIdIn(anyCollection())).thenReturn(List.of(comment));
 
         List<ItemForOwnerDto> items = itemService.getItemsByOwnerId(1L, 0, 10);
 
         assertNotNull(items);
         assertEquals(1, items.size());
+        assertEquals(lastBooking.getId(), items.get(0).getLastBooking().getId());
+        assertEquals(nextBooking.getId(), items.get(0).getNextBooking().getId());
+        assertEquals(1, items.get(0).getComments().size());
         verify(itemRepository).findAllByOwnerId(anyLong(), any(Pageable.class));
-        verify(bookingRepository).findAllByItemId(anyLong(), any(Sort.class));
+        verify(bookingRepository, never()).findAllByItemId(anyLong(), any(Sort.class));
+        verify(commentRepository, never()).findAllByItemId(anyLong());
+    }
+
+    @Test
+    void getItemsByOwnerId_shouldSkipBookingsAndComments_whenNoItems() {
+        when(itemRepository.findAllByOwnerId(anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+        List<ItemForOwnerDto> items = itemService.getItemsByOwnerId(1L, 0, 10);
+
+        assertTrue(items.isEmpty());
+        verifyNoInteractions(bookingRepository, commentRepository);
     }
 
     @Test
@@ -139,6 +172,26 @@ class ItemServiceTest {
         verify(itemRepository).findAllByRequestId(anyLong(), any(Sort.class));
     }
 
+    @Test
+    void getItemsByRequestIds_shouldGroupItemsByRequest_whenItemsExist() {
+        Request firstRequest = new Request();
+        firstRequest.setId(1L);
+        Request secondRequest = new Request();
+        secondRequest.setId(2L);
+        List<Item> requestItems = List.of(
+                new Item(1L, "Item 1", "Description", true, user, firstRequest),
+                new Item(2L, "Item 2", "Description", true, user, secondRequest),
+                new Item(3L, "Item 3", "Description", true, user, firstRequest));
+        when(itemRepository.findAllByRequestIdIn(eq(List.of(1L, 2L, 3L)), any(Sort.class))).thenReturn(requestItems);
+
+        Map<Long, List<ItemDto>> items = itemService.getItemsByRequestIds(List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(1L, 3L), items.get(1L).stream().map(ItemDto::getId).toList());
+        assertEquals(List.of(2L), items.get(2L).stream().map(ItemDto::getId).toList());
+        assertNull(items.get(3L));
+        verify(itemRepository, never()).findAllByRequestId(anyLong(), any(Sort.class));
+    }
+
     @Test
     void getById_shouldReturnItem_whenItemExists() {
         when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
@@ -151,15 +204,87 @@ class ItemServiceTest {
         verify(itemRepository).findById(1L);
     }
 
+    @Test
+    void getById_shouldLoadItemOnce_whenItemIsNotChanged() {
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        itemService.getById(1L, 1L);
+        ItemForOwnerDto returnedItem = itemService.getById(1L, 1L);
+
+        assertEquals(item.getName(), returnedItem.getName());
+        verify(itemRepository, times(1)).findById(1L);
+        verify(commentRepository, times(1)).findAllByItemId(1L);
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void getById_shouldLoadItemAgain_whenItemIsUpdated() {
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(itemRepository.save(any(Item.class))).thenReturn(item);
+
+        itemService.getById(1L, 1L);
+        itemService.update(ItemDto.builder().id(1L).name("Updated Item").build(), 1L);
+        ItemForOwnerDto returnedItem = itemService.getById(1L, 1L);
+
+        assertEquals("Updated Item", returnedItem.getName());
+        verify(commentRepository, times(2)).findAllByItemId(1L);
+    }
+
+    @Test
+    void getById_shouldSetLastAndNextBookings_whenUserIsOwner() {
+        Booking lastBooking = new Booking(1L, item, user, LocalDateTime.now().minusDays(2),
+                LocalDateTime.now().minusDays(1), BookingStatus.APPROVED);
+        Booking nextBooking = new Booking(2L, item, user, LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2), BookingStatus.APPROVED);
+
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartDateBeforeOrderByStartDateDesc(
+                eq(1L), eq(BookingStatus.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(lastBooking));
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartDateAfterOrderByStartDateAsc(
+                eq(1L), eq(BookingStatus.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(nextBooking));
+
+        ItemForOwnerDto returnedItem = itemService.getById(1L, 1L);
+
+        assertEquals(lastBooking.getId(), returnedItem.getLastBooking().getId());
+        assertEquals(nextBooking.getId(), returnedItem.getNextBooking().getId());
+        verify(bookingRepository, never()).findAllByItemId(anyLong(), any(Sort.class));
+    }
+
     @Test
     void getItemsByText_shouldReturnItems_whenItemsExist() {
-        when(itemRepository.findByText(anyString(), any(Pageable.class))).thenReturn(List.of(item));
+        when(itemSearch.search(anyString(), any(Pageable.class), eq(true))).thenReturn(List.of(item));
 
-        List<ItemDto> items = itemService.getItemsByText("Item", 0, 10);
+        List<ItemDto> items = itemService.getItemsByText("Item", 0, 10, true);
 
         assertNotNull(items);
         assertEquals(1, items.size());
-        verify(itemRepository).findByText(anyString(), any(Pageable.class));
+        verify(itemSearch).search(eq("Item"), any(Pageable.class), eq(true));
+    }
+
+    @Test
+    void getItemsByText_shouldReturnCachedPage_whenSameQueryIsRepeated() {
+        when(itemSearch.search(anyString(), any(Pageable.class), eq(false))).thenReturn(List.of(item));
+
+        itemService.getItemsByText("Item", 0, 10, false);
+        List<ItemDto> items = itemService.getItemsByText("ITEM", 0, 10, false);
+
+        assertEquals(1, items.size());
+        verify(itemSearch, times(1)).search(anyString(), any(Pageable.class), eq(false));
+    }
+
+    @Test
+    void getSuggestions_shouldReturnSuggestions_whenPrefixIsNotBlank() {
+        ItemSuggestionDto suggestion = ItemSuggestionDto.builder().id(1L).name("Item").build();
+        when(itemSuggestions.suggest("It", 5)).thenReturn(List.of(suggestion));
+
+        assertEquals(List.of(suggestion), itemService.getSuggestions("It", 5));
+        assertTrue(itemService.getSuggestions(" ", 5).isEmpty());
+        assertThrows(ValidationException.class, () -> itemService.getSuggestions("It", 0));
     }
 
     @Test
@@ -172,8 +297,9 @@ class ItemServiceTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
         when(commentRepository.save(any(Comment.class))).thenReturn(CommentMapper.toEntity(commentDto, item, user));
-        when(bookingService.getAllByBookerId(anyLong(), anyString(), anyInt(), anyInt()))
-                .thenReturn(List.of(BookingDto.builder().itemId(1L).status(BookingStatus.APPROVED).build()));
+        when(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndDateBefore(eq(1L), eq(1L),
+                eq(BookingStatus.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(true);
 
         CommentDto returnedComment = itemService.addComment(commentDto, 1L, 1L);
 
@@ -191,8 +317,9 @@ class ItemServiceTest {
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
-        when(bookingService.getAllByBookerId(anyLong(), anyString(), anyInt(), anyInt()))
-                .thenReturn(List.of());
+        when(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndDateBefore(eq(1L), eq(1L),
+                eq(BookingStatus.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(false);
 
         ValidationException exception = assertThrows(ValidationException.class,
                 () -> itemService.addComment(commentDto, 1L, 1L));
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemSuggestionDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSuggestionsTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @InjectMocks
+    private ItemSuggestions itemSuggestions;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User(1L, "User", "user@gmail.com");
+
+        when(itemRepository.findAllByAvailableTrue()).thenReturn(List.of(
+                makeItem(1L, "Drill", true),
+                makeItem(2L, "Drill press", true),
+                makeItem(3L, "Dremel", true),
+                makeItem(4L, "Hammer", true),
+                makeItem(5L, "drill", true)));
+        itemSuggestions.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void suggest_shouldReturnNamesInAlphabeticalOrder_whenPrefixMatches() {
+        assertEquals(List.of(3L, 1L, 5L, 2L), ids(itemSuggestions.suggest("DR", 10)));
+        assertEquals(List.of(1L, 5L, 2L), ids(itemSuggestions.suggest("dril", 10)));
+        assertEquals(List.of(2L), ids(itemSuggestions.suggest("drill p", 10)));
+        assertEquals("Drill press", itemSuggestions.suggest("drill p", 10).get(0).getName());
+    }
+
+    @Test
+    void suggest_shouldReturnFirstNames_whenLimitIsLessThanMatches() {
+        assertEquals(List.of(3L, 1L), ids(itemSuggestions.suggest("d", 2)));
+    }
+
+    @Test
+    void suggest_shouldReturnEmptyList_whenPrefixDoesNotMatch() {
+        assertTrue(itemSuggestions.suggest("drx", 10).isEmpty());
+        assertTrue(itemSuggestions.suggest("drill press stand", 10).isEmpty());
+        assertTrue(itemSuggestions.suggest("saw", 10).isEmpty());
+    }
+
+    @Test
+    void afterSingletonsInstantiated_shouldKeepItemsIndexedBeforeLoad() {
+        itemSuggestions.index(makeItem(6L, "Saw", true));
+
+        itemSuggestions.afterSingletonsInstantiated();
+
+        assertEquals(List.of(6L), ids(itemSuggestions.suggest("sa", 10)));
+    }
+
+    @Test
+    void index_shouldUpdateName_whenItemIsRenamed() {
+        itemSuggestions.index(makeItem(3L, "Saw", true));
+
+        assertEquals(List.of(1L, 5L, 2L), ids(itemSuggestions.suggest("dr", 10)));
+        assertEquals(List.of(3L), ids(itemSuggestions.suggest("sa", 10)));
+    }
+
+    @Test
+    void index_shouldRemoveName_whenItemBecomesUnavailable() {
+        itemSuggestions.index(makeItem(1L, "Drill", false));
+        itemSuggestions.index(makeItem(5L, "drill", false));
+
+        assertEquals(List.of(2L), ids(itemSuggestions.suggest("drill", 10)));
+        assertEquals(List.of(3L, 2L), ids(itemSuggestions.suggest("dr", 10)));
+    }
+
+    private Item makeItem(Long id, String name, boolean available) {
+        return new Item(id, name, "Description", available, owner, null);
+    }
+
+    private static List<Long> ids(List<ItemSuggestionDto> suggestions) {
+        return suggestions.stream().map(ItemSuggestionDto::getId).toList();
+    }
+
+}
@@ -13,18 +13,22 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.exception.EntityNotFoundException;
+import ru.practicum.shareit.request.dto.RequestCursor;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.dto.RequestForOwnerDto;
 import ru.practicum.shareit.request.dto.RequestWithItemsDto;
 import ru.practicum.shareit.request.service.RequestService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.common.Constants.X_NEXT_CURSOR;
 import static ru.practicum.shareit.common.Constants.X_SHARER_USER_ID;
 
 @SpringBootTest
@@ -118,6 +122,22 @@ class RequestControllerTest {
                 .andExpect(jsonPath("$[0].description").value(requestWithItemsDto.getDescription()));
     }
 
+    @Test
+    void getAllByUserIdAndPageable_shouldReturnNextCursor_whenPageIsFull() throws Exception {
+        requestWithItemsDto.setCreatedDate("2024-01-01T10:00:00");
+        when(requestServiceMock.getAllByUserIdAfterCursor(anyLong(), anyString(), anyInt())).thenReturn(List.of(requestWithItemsDto));
+
+        mockMvc.perform(get("/requests/all")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(X_SHARER_USER_ID, 1L)
+                        .param("cursor", "cursor")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().string(X_NEXT_CURSOR,
+                        new RequestCursor(LocalDateTime.of(2024, 1, 1, 10, 0), 1L).encode()));
+    }
+
     @Test
     void getById_shouldReturnRequest_whenRequestExists() throws Exception {
         when(requestServiceMock.getRequestById(anyLong(), anyLong())).thenReturn(requestWithItemsDto);
@@ -7,6 +7,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.request.dto.RequestCursor;
 import ru.practicum.shareit.request.model.Request;
 
 import ru.practicum.shareit.user.UserRepository;
@@ -53,7 +54,7 @@ class RequestRepositoryTest {
         createRequest(requestorUser, "Test Request");
 
         //that
-        List<Request> requests = requestRepository.findAllByRequestUserIdNot(anotherUser.getId(), pageable).getContent();
+        List<Request> requests = requestRepository.findAllByRequestUserIdNot(anotherUser.getId(), pageable);
 
         //then
         assertThat(requests).hasSize(1);
@@ -62,6 +63,27 @@ class RequestRepositoryTest {
         assertThat(foundRequest.getRequestUser().getName()).isEqualTo("Test Requestor User");
     }
 
+    @Test
+    void testFindAllByRequestUserIdNotAfterCursor() {
+        //given
+        User requestorUser = createUser("requestor_user@gmail.com", "Test Requestor User");
+        User anotherUser = createUser("another_user@gmail.com", "Another User");
+        LocalDateTime created = LocalDateTime.now().withNano(123_456_789);
+        Request first = createRequest(requestorUser, "First Request", created);
+        Request second = createRequest(requestorUser, "Second Request", created);
+        createRequest(requestorUser, "Third Request", created.plusHours(1));
+        createRequest(anotherUser, "Own Request", created.plusHours(2));
+
+        //that
+        RequestCursor cursor = RequestCursor.decode(RequestCursor.encode(RequestMapper.toEntityWithItemsDto(first)));
+        List<Request> requests = requestRepository.findAllByRequestUserIdNotAfterCursor(anotherUser.getId(),
+                cursor.getCreatedDate(), cursor.getId(), PageRequest.ofSize(10));
+
+        //then
+        assertThat(requests).extracting(Request::getDescription)
+                .containsExactly(second.getDescription(), "Third Request");
+    }
+
     private User createUser(String email, String name) {
         User user = new User();
         user.setEmail(email);
@@ -70,10 +92,14 @@ class RequestRepositoryTest {
     }
 
     private Request createRequest(User requestorUser, String description) {
+        return createRequest(requestorUser, description, LocalDateTime.now());
+    }
+
+    private Request createRequest(User requestorUser, String description, LocalDateTime createdDate) {
         Request request = new Request();
         request.setRequestUser(requestorUser);
         request.setDescription(description);
-        request.setCreatedDate(LocalDateTime.now());
+        request.setCreatedDate(createdDate);
         return requestRepository.save(request);
     }
 
@@ -103,7 +103,7 @@ class RequestServiceIntegrationTest {
         assertThat(requests, hasItem(hasProperty("description", equalTo(requestDto.getDescription()))));
 
         List<Request> foundRequests = requestRepository
-                .findAllByRequestUserIdNot(userDtoAnother.getId(), PageRequest.of(0, 10)).getContent();
+                .findAllByRequestUserIdNot(userDtoAnother.getId(), PageRequest.of(0, 10));
         assertThat(foundRequests, hasItem(hasProperty("description", equalTo(requestDto.getDescription()))));
     }
 
@@ -6,7 +6,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.exception.EntityNotFoundException;
@@ -15,6 +14,7 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.request.RequestMapper;
 import ru.practicum.shareit.request.RequestRepository;
+import ru.practicum.shareit.request.dto.RequestCursor;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.dto.RequestForOwnerDto;
 import ru.practicum.shareit.request.dto.RequestWithItemsDto;
@@ -22,13 +22,16 @@ import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -77,7 +80,7 @@ class RequestServiceTest {
     void getAllByOwnerId_shouldReturnRequests_whenRequestsExist() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
         when(requestRepository.findAllByRequestUserId(anyLong(), any(Sort.class))).thenReturn(Collections.singletonList(request));
-        when(itemService.getItemsByRequestId(anyLong())).thenReturn(items);
+        when(itemService.getItemsByRequestIds(List.of(1L))).thenReturn(Map.of(1L, items));
 
         List<RequestForOwnerDto> requests = requestService.getAllByOwnerId(1L);
 
@@ -90,8 +93,8 @@ class RequestServiceTest {
     @Test
     void getAllByUserIdAndPageable_shouldReturnRequests_whenRequestsExist() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(requestRepository.findAllByRequestUserIdNot(anyLong(), any(Pageable.class))).thenReturn(new PageImpl<>(Collections.singletonList(request)));
-        when(itemService.getItemsByRequestId(anyLong())).thenReturn(items);
+        when(requestRepository.findAllByRequestUserIdNot(anyLong(), any(Pageable.class))).thenReturn(Collections.singletonList(request));
+        when(itemService.getItemsByRequestIds(List.of(1L))).thenReturn(Map.of(1L, items));
 
         List<RequestWithItemsDto> requests = requestService.getAllByUserIdAndPageable(1L, 0, 10);
 
@@ -99,6 +102,45 @@ class RequestServiceTest {
         assertEquals(1, requests.size());
         assertEquals(items, requests.get(0).getItems());
         verify(requestRepository).findAllByRequestUserIdNot(anyLong(), any(Pageable.class));
+        verify(itemService, never()).getItemsByRequestId(anyLong());
+    }
+
+    @Test
+    void getAllByUserIdAndPageable_shouldReturnEmptyItems_whenRequestHasNoItems() {
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(requestRepository.findAllByRequestUserIdNot(anyLong(), any(Pageable.class))).thenReturn(Collections.singletonList(request));
+        when(itemService.getItemsByRequestIds(List.of(1L))).thenReturn(Map.of());
+
+        List<RequestWithItemsDto> requests = requestService.getAllByUserIdAndPageable(1L, 0, 10);
+
+        assertEquals(List.of(), requests.get(0).getItems());
+    }
+
+    @Test
+    void getAllByUserIdAfterCursor_shouldReturnRequestsAfterCursor() {
+        LocalDateTime cursorCreated = LocalDateTime.of(2024, 1, 1, 10, 0);
+        String cursor = new RequestCursor(cursorCreated, 5L).encode();
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(requestRepository.findAllByRequestUserIdNotAfterCursor(eq(1L), eq(cursorCreated), eq(5L), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(request));
+        when(itemService.getItemsByRequestIds(List.of(1L))).thenReturn(Map.of(1L, items));
+
+        List<RequestWithItemsDto> requests = requestService.getAllByUserIdAfterCursor(1L, cursor, 10);
+
+        assertEquals(1, requests.size());
+        assertEquals(items, requests.get(0).getItems());
+        verify(requestRepository, never()).findAllByRequestUserIdNot(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void getAllByUserIdAfterCursor_shouldThrowValidationException_whenCursorIsInvalid() {
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> requestService.getAllByUserIdAfterCursor(1L, "not-a-cursor", 10));
+
+        assertEquals("Неверный курсор страницы: not-a-cursor", exception.getMessage());
+        verifyNoInteractions(requestRepository);
     }
 
     @Test
@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ru.practicum.shareit.exception.EntityNotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.service.ItemDetailsCache;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
@@ -25,6 +26,9 @@ class UserServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    ItemDetailsCache itemDetailsCache;
+
     @InjectMocks
     UserServiceImpl userService;
 
@@ -102,6 +106,7 @@ class UserServiceTest {
 
         verify(userRepository).findById(1L);
         verify(userRepository).saveAndFlush(any(User.class));
+        verify(itemDetailsCache).evictCommentedBy("Valid User");
     }
 
     @Test